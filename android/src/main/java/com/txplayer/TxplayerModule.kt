@@ -1,7 +1,9 @@
 package com.txplayer
 
+import android.os.SystemClock
 import android.util.Log
 import com.facebook.react.bridge.Arguments
+import com.facebook.react.bridge.LifecycleEventListener
 import com.facebook.react.bridge.Promise
 import com.facebook.react.bridge.ReactApplicationContext
 import com.facebook.react.bridge.ReadableArray
@@ -9,25 +11,58 @@ import com.facebook.react.bridge.ReadableMap
 import com.facebook.react.bridge.UiThreadUtil
 import com.facebook.react.module.annotations.ReactModule
 import com.txplayer.rnuiplayer.common.TxplayerEventDispatcher
+import com.txplayer.rnuiplayer.player.RNPlayerCommandQueue
 import com.txplayer.rnuiplayer.player.RNShortController
 import com.txplayer.rnuiplayer.player.RNShortEngine
+import com.txplayer.rnuiplayer.player.event.RNEventCodeFilter
+import com.txplayer.rnuiplayer.player.event.RNVodCommands
+import com.txplayer.rnuiplayer.tools.RNCoverCache
+import com.txplayer.rnuiplayer.tools.RNEventPayload
+import com.txplayer.rnuiplayer.tools.RNFrameMonitor
+import com.txplayer.rnuiplayer.tools.RNSnapshotCache
+import com.txplayer.rnuiplayer.tools.RNSourceBatchLoader
 import com.txplayer.rnuiplayer.tools.RNTransformer
+import com.txplayer.rnuiplayer.tools.RNVideoSizeCache
+import com.txplayer.rnuiplayer.view.RNEventRegistry
+import com.txplayer.rnuiplayer.view.RNItemViewPool
 import com.txplayer.rnuiplayer.view.RNShortVideoItemView
 import com.txplayer.rnuiplayer.view.RNViewRegistry
 import com.tencent.qcloud.tuiplayer.core.api.model.TUIPlayerBitrateItem
 
 @ReactModule(name = TxplayerModule.NAME)
 class TxplayerModule(reactContext: ReactApplicationContext) :
-  NativeTxplayerSpec(reactContext) {
+  NativeTxplayerSpec(reactContext), LifecycleEventListener {
 
   private val shortEngine = RNShortEngine(reactContext)
 
   init {
     TxplayerEventDispatcher.init(reactContext)
+    RNCoverCache.init(reactContext)
+    reactContext.addLifecycleEventListener(this)
   }
 
   override fun getName(): String = NAME
 
+  override fun onHostResume() {}
+
+  override fun onHostPause() {}
+
+  override fun onHostDestroy() {
+    // Pooled views hold the themed context of the destroyed Activity and can never match again.
+    UiThreadUtil.runOnUiThread { RNItemViewPool.clear() }
+  }
+
+  override fun invalidate() {
+    reactApplicationContext.removeLifecycleEventListener(this)
+    shortEngine.dispose()
+    RNEventRegistry.setMask(RNEventRegistry.ANY_VIEW, RNEventRegistry.MASK_ALL)
+    UiThreadUtil.runOnUiThread {
+      RNItemViewPool.clear()
+      RNFrameMonitor.setEnabled(reactApplicationContext, false)
+    }
+    super.invalidate()
+  }
+
   override fun setPlayerConfig(config: ReadableMap, promise: Promise) {
     try {
       shortEngine.setConfig(config)
@@ -57,26 +92,76 @@ class TxplayerModule(reactContext: ReactApplicationContext) :
   }
 
   override fun shortControllerSetModels(controllerId: Double, sources: ReadableArray, promise: Promise) {
-    withController(controllerId, promise) { controller ->
-      val result = controller.setModels(RNTransformer.transformVideoSources(sources))
+    loadModels(controllerId, sources, false, promise)
+  }
+
+  override fun shortControllerAppendModels(controllerId: Double, sources: ReadableArray, promise: Promise) {
+    loadModels(controllerId, sources, true, promise)
+  }
+
+  override fun shortControllerReplaceModels(controllerId: Double, index: Double, sources: ReadableArray, promise: Promise) {
+    val list = RNTransformer.transformVideoSources(sources)
+    withModelQueue(controllerId, promise) { controller ->
+      val result = controller.replaceModels(index.toInt(), list)
       promise.resolve(result.toDouble())
     }
   }
 
-  override fun shortControllerAppendModels(controllerId: Double, sources: ReadableArray, promise: Promise) {
-    withController(controllerId, promise) { controller ->
-      val result = controller.appendModels(RNTransformer.transformVideoSources(sources))
+  override fun shortControllerInsertModels(controllerId: Double, index: Double, sources: ReadableArray, promise: Promise) {
+    val list = RNTransformer.transformVideoSources(sources)
+    withModelQueue(controllerId, promise) { controller ->
+      val result = controller.insertModels(index.toInt(), list)
       promise.resolve(result.toDouble())
     }
   }
 
+  override fun shortControllerRemoveModels(controllerId: Double, index: Double, count: Double, promise: Promise) {
+    withModelQueue(controllerId, promise) { controller ->
+      promise.resolve(controller.removeModels(index.toInt(), count.toInt()).toDouble())
+    }
+  }
+
+  override fun shortControllerMoveModel(controllerId: Double, from: Double, to: Double, promise: Promise) {
+    withModelQueue(controllerId, promise) { controller ->
+      promise.resolve(controller.moveModel(from.toInt(), to.toInt()).toDouble())
+    }
+  }
+
+  override fun shortControllerReplaceModel(controllerId: Double, index: Double, source: ReadableMap, promise: Promise) {
+    val model = RNTransformer.transformVideoSource(source)
+    withModelQueue(controllerId, promise) { controller ->
+      val result = controller.replaceModel(index.toInt(), model)
+      promise.resolve(result.toDouble())
+    }
+  }
+
+  override fun shortControllerSetModelWindow(controllerId: Double, radius: Double, hasProvider: Boolean, promise: Promise) {
+    withModelQueue(controllerId, promise) { controller ->
+      promise.resolve(controller.setModelWindow(radius.toInt(), hasProvider).toDouble())
+    }
+  }
+
+  override fun shortControllerUpdateScrollVelocity(controllerId: Double, velocity: Double, promise: Promise) {
+    withController(controllerId, promise) { controller ->
+      controller.updateScrollVelocity(velocity.toFloat())
+      promise.resolve(null)
+    }
+  }
+
+  override fun shortControllerSetScrollState(controllerId: Double, state: Double, targetIndex: Double, promise: Promise) {
+    withModelQueue(controllerId, promise) { controller ->
+      controller.setScrollState(state.toInt(), targetIndex.toInt())
+      promise.resolve(null)
+    }
+  }
+
   override fun shortControllerBindVideoView(controllerId: Double, viewTag: Double, index: Double, promise: Promise) {
     withController(controllerId, promise) { controller ->
-      UiThreadUtil.runOnUiThread {
+      controller.runBind(viewTag.toInt()) {
         val view = RNViewRegistry.get(viewTag.toInt())
         if (view == null) {
           promise.reject("E_NO_VIEW", "View $viewTag not found")
-          return@runOnUiThread
+          return@runBind
         }
         val ok = controller.bindVideoView(viewTag.toInt(), index.toInt())
         if (!ok) {
@@ -88,9 +173,34 @@ class TxplayerModule(reactContext: ReactApplicationContext) :
     }
   }
 
+  override fun shortControllerBindWindow(controllerId: Double, entries: ReadableArray, promise: Promise) {
+    withController(controllerId, promise) { controller ->
+      val size = entries.size()
+      val viewTags = IntArray(size)
+      val indices = IntArray(size)
+      val roles = IntArray(size)
+      for (i in 0 until size) {
+        val entry = entries.getMap(i)
+        if (entry == null) {
+          roles[i] = RNShortController.ROLE_SKIP
+          continue
+        }
+        viewTags[i] = entry.getInt("viewTag")
+        indices[i] = entry.getInt("index")
+        roles[i] = entry.getInt("role")
+      }
+      controller.runBind(viewTags) {
+        val results = controller.bindWindow(viewTags, indices, roles)
+        val array = Arguments.createArray()
+        results.forEach { array.pushBoolean(it) }
+        promise.resolve(array)
+      }
+    }
+  }
+
   override fun shortControllerPreBindVideo(controllerId: Double, viewTag: Double, index: Double, promise: Promise) {
     withController(controllerId, promise) { controller ->
-      UiThreadUtil.runOnUiThread {
+      controller.runBind(viewTag.toInt()) {
         val ok = controller.preBindVideo(viewTag.toInt(), index.toInt())
         if (!ok) {
           promise.reject("E_PREBIND_FAIL", "preBindVideo failed for index $index")
@@ -108,8 +218,15 @@ class TxplayerModule(reactContext: ReactApplicationContext) :
     }
   }
 
-  override fun shortControllerStartCurrent(controllerId: Double, promise: Promise) {
+  override fun shortControllerSetEventFilter(controllerId: Double, filter: ReadableMap, promise: Promise) {
     withController(controllerId, promise) { controller ->
+      controller.setEventFilter(filterMode(filter), filterCodes(filter))
+      promise.resolve(null)
+    }
+  }
+
+  override fun shortControllerStartCurrent(controllerId: Double, promise: Promise) {
+    withModelQueue(controllerId, promise) { controller ->
       promise.resolve(controller.startCurrent().toDouble())
     }
   }
@@ -128,8 +245,29 @@ class TxplayerModule(reactContext: ReactApplicationContext) :
     }
   }
 
-  override fun shortControllerRelease(controllerId: Double, promise: Promise) {
+  override fun shortControllerSetResolveOnFirstChunk(controllerId: Double, enabled: Boolean, promise: Promise) {
+    withController(controllerId, promise) { controller ->
+      controller.setResolveOnFirstChunk(enabled)
+      promise.resolve(null)
+    }
+  }
+
+  override fun shortControllerSetAdaptiveStrategy(controllerId: Double, enabled: Boolean, promise: Promise) {
     withController(controllerId, promise) { controller ->
+      controller.setAdaptiveStrategy(enabled)
+      promise.resolve(null)
+    }
+  }
+
+  override fun shortControllerSetActive(controllerId: Double, active: Boolean, promise: Promise) {
+    withModelQueue(controllerId, promise) { controller ->
+      controller.setActive(active)
+      promise.resolve(null)
+    }
+  }
+
+  override fun shortControllerRelease(controllerId: Double, promise: Promise) {
+    withModelQueue(controllerId, promise) { controller ->
       controller.release()
       promise.resolve(null)
     }
@@ -247,6 +385,40 @@ class TxplayerModule(reactContext: ReactApplicationContext) :
     }
   }
 
+  override fun vodPlayerGetCurrentPlayTimeSync(viewTag: Double): Double {
+    return RNViewRegistry.get(viewTag.toInt())?.vodController?.snapshotPlayTime ?: 0.0
+  }
+
+  override fun vodPlayerGetDurationSync(viewTag: Double): Double {
+    return RNViewRegistry.get(viewTag.toInt())?.vodController?.snapshotDuration ?: 0.0
+  }
+
+  override fun vodPlayerIsPlayingSync(viewTag: Double): Boolean {
+    return RNViewRegistry.get(viewTag.toInt())?.vodController?.isSnapshotPlaying ?: false
+  }
+
+  override fun vodPlayerExecute(viewTag: Double, commands: ReadableArray, promise: Promise) {
+    withPlayer(viewTag, promise) { view ->
+      promise.resolve(RNVodCommands.execute(view.vodController, commands))
+    }
+  }
+
+  override fun vodPlayerSetProgressConfig(viewTag: Double, config: ReadableMap, promise: Promise) {
+    withPlayer(viewTag, promise) { view ->
+      val intervalMs = if (config.hasKey("intervalMs")) config.getInt("intervalMs") else 0
+      val minDeltaMs = if (config.hasKey("minDeltaMs")) config.getInt("minDeltaMs") else 0
+      view.vodController.setProgressConfig(intervalMs, minDeltaMs)
+      promise.resolve(null)
+    }
+  }
+
+  override fun vodPlayerSetEventFilter(viewTag: Double, filter: ReadableMap, promise: Promise) {
+    withPlayer(viewTag, promise) { view ->
+      view.vodController.setEventFilter(filterMode(filter), filterCodes(filter))
+      promise.resolve(null)
+    }
+  }
+
   override fun vodPlayerRelease(viewTag: Double, promise: Promise) {
     withPlayer(viewTag, promise) { view ->
       view.vodController.release()
@@ -254,6 +426,88 @@ class TxplayerModule(reactContext: ReactApplicationContext) :
     }
   }
 
+  override fun setViewEventMask(viewTag: Double, mask: Double, promise: Promise) {
+    RNEventRegistry.setMask(viewTag.toInt(), mask.toInt())
+    promise.resolve(null)
+  }
+
+  override fun setEventBatchConfig(config: ReadableMap, promise: Promise) {
+    try {
+      val enabled = config.hasKey("enabled") && config.getBoolean("enabled")
+      val intervalMs = if (config.hasKey("flushIntervalMs")) config.getInt("flushIntervalMs") else 0
+      TxplayerEventDispatcher.configureBatching(enabled, intervalMs)
+      promise.resolve(null)
+    } catch (error: Throwable) {
+      promise.reject("E_EVENT_BATCH", error)
+    }
+  }
+
+  override fun setEventPayloadMode(mode: Double, promise: Promise) {
+    RNEventPayload.setMode(mode.toInt())
+    promise.resolve(null)
+  }
+
+  override fun setSnapshotCacheConfig(enabled: Boolean, maxBytes: Double, promise: Promise) {
+    RNSnapshotCache.configure(enabled, maxBytes.toInt())
+    promise.resolve(null)
+  }
+
+  override fun setViewPoolSize(max: Double, promise: Promise) {
+    UiThreadUtil.runOnUiThread {
+      RNItemViewPool.setMaxSize(max.toInt())
+      promise.resolve(null)
+    }
+  }
+
+  override fun setFrameMonitorEnabled(enabled: Boolean, promise: Promise) {
+    UiThreadUtil.runOnUiThread {
+      RNFrameMonitor.setEnabled(reactApplicationContext, enabled)
+      promise.resolve(null)
+    }
+  }
+
+  override fun setMemoryBudget(bytes: Double, promise: Promise) {
+    shortEngine.setMemoryBudget(bytes.toLong())
+    promise.resolve(null)
+  }
+
+  override fun setMaxWarmControllers(maxIdle: Double, promise: Promise) {
+    // Parking releases players, which belongs on the main thread with binds and activation.
+    UiThreadUtil.runOnUiThread {
+      shortEngine.setMaxWarmControllers(maxIdle.toInt())
+      promise.resolve(null)
+    }
+  }
+
+  override fun getPerformanceStats(promise: Promise) {
+    try {
+      val stats = Arguments.createMap()
+      stats.putMap("eventDispatcher", TxplayerEventDispatcher.getStats())
+      val subscriptions = Arguments.createMap()
+      subscriptions.putInt("views", RNEventRegistry.size())
+      subscriptions.putDouble("skipped", RNEventRegistry.getSkippedCount().toDouble())
+      subscriptions.putDouble("filtered", RNEventCodeFilter.getFilteredCount().toDouble())
+      stats.putMap("subscriptions", subscriptions)
+      stats.putMap("payload", RNEventPayload.getStats())
+      stats.putMap("models", shortEngine.getModelStats())
+      stats.putMap("sourceBatches", RNSourceBatchLoader.getStats())
+      stats.putMap("preRender", shortEngine.getPreRenderStats())
+      stats.putMap("parking", shortEngine.getParkingStats())
+      stats.putMap("memory", shortEngine.getMemoryStats())
+      stats.putMap("adaptiveStrategy", shortEngine.getAdaptiveStats())
+      stats.putMap("covers", RNCoverCache.getStats())
+      stats.putMap("snapshots", RNSnapshotCache.getStats())
+      stats.putMap("viewPool", RNItemViewPool.getStats())
+      stats.putMap("frames", RNFrameMonitor.getStats())
+      stats.putMap("videoSizes", RNVideoSizeCache.getStats())
+      stats.putMap("views", RNViewRegistry.getStats())
+      stats.putMap("playerCommands", RNPlayerCommandQueue.getStats())
+      promise.resolve(stats)
+    } catch (error: Throwable) {
+      promise.reject("E_STATS", error)
+    }
+  }
+
   override fun addListener(eventName: String) {}
 
   override fun removeListeners(count: Double) {}
@@ -267,15 +521,68 @@ class TxplayerModule(reactContext: ReactApplicationContext) :
     }
   }
 
+  private fun loadModels(controllerId: Double, sources: ReadableArray, append: Boolean, promise: Promise) {
+    if (!RNSourceBatchLoader.shouldStream(sources)) {
+      val startNanos = SystemClock.elapsedRealtimeNanos()
+      val list = RNTransformer.transformVideoSources(sources)
+      RNSourceBatchLoader.recordBatch(list.size, SystemClock.elapsedRealtimeNanos() - startNanos, false)
+      withModelQueue(controllerId, promise) { controller ->
+        val result = if (append) controller.appendModels(list) else controller.setModels(list)
+        promise.resolve(result.toDouble())
+      }
+      return
+    }
+    withController(controllerId, promise) { controller ->
+      controller.loadModelsStreaming(sources, append, object : RNShortController.ModelCallback {
+        override fun onResult(result: Long) {
+          promise.resolve(result.toDouble())
+        }
+
+        override fun onError(error: Throwable) {
+          promise.reject("E_MODELS", error)
+        }
+      })
+    }
+  }
+
+  /** Runs [block] on the main thread behind the controller's queued model work and loads. */
+  private fun withModelQueue(id: Double, promise: Promise, block: (RNShortController) -> Unit) {
+    withController(id, promise) { controller ->
+      controller.enqueueModelOp {
+        try {
+          block(controller)
+        } catch (error: Throwable) {
+          promise.reject("E_MODELS", error)
+        }
+      }
+    }
+  }
+
+  /** Runs [block] on the main thread behind any bind issued before it; see RNPlayerCommandQueue. */
   private fun withPlayer(viewTag: Double, promise: Promise, block: (RNShortVideoItemView) -> Unit) {
-    val view = RNViewRegistry.get(viewTag.toInt())
-    if (view == null) {
-      promise.reject("E_NO_VIEW", "View $viewTag not found")
-    } else {
-      block(view)
+    val tag = viewTag.toInt()
+    RNPlayerCommandQueue.post(tag) {
+      val view = RNViewRegistry.get(tag)
+      if (view == null) {
+        promise.reject("E_NO_VIEW", "View $viewTag not found")
+      } else {
+        try {
+          block(view)
+        } catch (error: Throwable) {
+          promise.reject("E_PLAYER", error)
+        }
+      }
     }
   }
 
+  private fun filterMode(filter: ReadableMap): Int {
+    return if (filter.hasKey("mode")) filter.getInt("mode") else 0
+  }
+
+  private fun filterCodes(filter: ReadableMap): IntArray {
+    return RNTransformer.transformIntArray(if (filter.hasKey("codes")) filter.getArray("codes") else null)
+  }
+
   private fun normalizeDynamic(value: Any?): Any? {
     return when (value) {
       is ReadableMap -> value.toHashMap()
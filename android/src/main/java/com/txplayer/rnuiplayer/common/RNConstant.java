@@ -9,8 +9,28 @@ public final class RNConstant {
   public static final String EVENT_CONTROLLER_UNBIND = "txplayer.onControllerUnbind";
   public static final String EVENT_VIEW_DISPOSED = "txplayer.onViewDisposed";
   public static final String EVENT_SUBTITLE_TRACKS = "txplayer.onSubtitleTracks";
+  public static final String EVENT_PLAY_PROGRESS = "txplayer.onPlayProgress";
+  public static final String EVENT_MODELS_REQUESTED = "txplayer.onModelsRequested";
+  public static final String EVENT_MODELS_FAILED = "txplayer.onModelsFailed";
+  public static final String EVENT_BATCH = "txplayer.onEventBatch";
 
+  public static final int PLAY_EVT_PLAY_PROGRESS = 2005;
+  public static final int PLAY_EVT_CHANGE_RESOLUTION = 2009;
+  public static final int PLAY_EVT_CHANGE_ROTATION = 2011;
   public static final int PLAY_EVT_FIRST_FRAME_RENDERED = 50001;
+  /** Coalesce code for the throttled progress stream; not an SDK event. */
+  public static final int PROGRESS_STREAM_CODE = 50002;
+
+  /**
+   * Status-style events where only the latest value per view matters. Net status is not listed:
+   * the SDK reports it through {@code NetStatusListener}, which is consumed natively by the
+   * adaptive strategy and never reaches the dispatcher.
+   */
+  public static boolean isCoalescablePlayEvent(int event) {
+    return event == PLAY_EVT_PLAY_PROGRESS
+        || event == PLAY_EVT_CHANGE_RESOLUTION
+        || event == PLAY_EVT_CHANGE_ROTATION;
+  }
 
   private RNConstant() {}
 }
@@ -1,33 +1,195 @@
 package com.txplayer.rnuiplayer.common;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
 import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.modules.core.DeviceEventManagerModule;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends native events to JS. In batching mode events are queued, redundant ones are merged by
+ * coalesce key (the latest event moves to the tail, so JS sees it after everything emitted before
+ * it), and the queue is flushed as a single {@link RNConstant#EVENT_BATCH} event on the
+ * next Choreographer frame (or after {@code flushIntervalMs} when it is positive).
+ */
 public final class TxplayerEventDispatcher {
 
+  public static final long NO_COALESCE_KEY = Long.MIN_VALUE;
+
+  private static final Object LOCK = new Object();
+  private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+  private static final Choreographer.FrameCallback FRAME_FLUSH = frameTimeNanos -> flush();
+  private static final Runnable FLUSH = TxplayerEventDispatcher::flush;
+  private static final Runnable POST_FRAME_FLUSH =
+      () -> Choreographer.getInstance().postFrameCallback(FRAME_FLUSH);
+
   @Nullable
   private static ReactApplicationContext reactContext;
 
+  private static volatile boolean batchingEnabled = false;
+  private static int flushIntervalMs = 0;
+  private static boolean flushScheduled = false;
+  private static int pendingMerged = 0;
+  /** Queued events in emit order; slots of events replaced by a later one are null. */
+  private static List<PendingEvent> pending = new ArrayList<>();
+  private static final Map<Long, Integer> pendingIndex = new HashMap<>();
+
+  private static final AtomicLong directEmitted = new AtomicLong();
+  private static long enqueued = 0;
+  private static long merged = 0;
+  private static long flushedBatches = 0;
+  private static long flushedEvents = 0;
+  private static int maxBatchSize = 0;
+
   private TxplayerEventDispatcher() {}
 
   public static void init(ReactApplicationContext context) {
     reactContext = context;
   }
 
+  public static void configureBatching(boolean enabled, int intervalMs) {
+    synchronized (LOCK) {
+      flushIntervalMs = Math.max(0, intervalMs);
+      batchingEnabled = enabled;
+    }
+    if (!enabled) {
+      flush();
+    }
+  }
+
   public static void emit(String eventName, WritableMap params) {
+    emit(eventName, params, NO_COALESCE_KEY);
+  }
+
+  /**
+   * Emits an event that may be replaced by a later event with the same {@code coalesceKey}
+   * while it is still queued. Without batching the key is ignored.
+   */
+  public static void emit(String eventName, WritableMap params, long coalesceKey) {
     if (reactContext == null) {
       return;
     }
-    reactContext
-        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
-        .emit(eventName, params);
+    if (!batchingEnabled) {
+      directEmitted.incrementAndGet();
+      emitNow(eventName, params);
+      return;
+    }
+    synchronized (LOCK) {
+      enqueued++;
+      Integer existing =
+          coalesceKey == NO_COALESCE_KEY ? null : pendingIndex.get(coalesceKey);
+      if (existing != null) {
+        pending.set(existing, null);
+        pendingMerged++;
+        merged++;
+      }
+      if (coalesceKey != NO_COALESCE_KEY) {
+        pendingIndex.put(coalesceKey, pending.size());
+      }
+      pending.add(new PendingEvent(eventName, params));
+      scheduleFlushLocked();
+    }
+  }
+
+  public static long coalesceKey(int viewTag, int eventCode) {
+    return ((long) viewTag << 32) | (eventCode & 0xffffffffL);
   }
 
   public static WritableMap createParams() {
     return Arguments.createMap();
   }
+
+  public static WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    synchronized (LOCK) {
+      stats.putBoolean("batchingEnabled", batchingEnabled);
+      stats.putInt("flushIntervalMs", flushIntervalMs);
+      stats.putDouble("enqueued", enqueued);
+      stats.putDouble("merged", merged);
+      stats.putDouble("flushedBatches", flushedBatches);
+      stats.putDouble("flushedEvents", flushedEvents);
+      stats.putInt("maxBatchSize", maxBatchSize);
+      stats.putInt("pending", pending.size() - pendingMerged);
+    }
+    stats.putDouble("directEmitted", directEmitted.get());
+    return stats;
+  }
+
+  private static void scheduleFlushLocked() {
+    if (flushScheduled) {
+      return;
+    }
+    flushScheduled = true;
+    if (flushIntervalMs > 0) {
+      MAIN_HANDLER.postDelayed(FLUSH, flushIntervalMs);
+    } else {
+      MAIN_HANDLER.post(POST_FRAME_FLUSH);
+    }
+  }
+
+  private static void flush() {
+    List<PendingEvent> events;
+    synchronized (LOCK) {
+      flushScheduled = false;
+      if (pending.isEmpty()) {
+        return;
+      }
+      events = pending;
+      int size = events.size() - pendingMerged;
+      pending = new ArrayList<>();
+      pendingIndex.clear();
+      pendingMerged = 0;
+      flushedBatches++;
+      flushedEvents += size;
+      maxBatchSize = Math.max(maxBatchSize, size);
+    }
+    if (reactContext == null) {
+      return;
+    }
+    WritableArray array = Arguments.createArray();
+    for (PendingEvent event : events) {
+      if (event == null) {
+        continue;
+      }
+      WritableMap item = Arguments.createMap();
+      item.putString("name", event.name);
+      item.putMap("params", event.params);
+      array.pushMap(item);
+    }
+    WritableMap params = Arguments.createMap();
+    params.putArray("events", array);
+    emitNow(RNConstant.EVENT_BATCH, params);
+  }
+
+  private static void emitNow(String eventName, WritableMap params) {
+    ReactApplicationContext context = reactContext;
+    if (context == null) {
+      return;
+    }
+    context
+        .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
+        .emit(eventName, params);
+  }
+
+  private static final class PendingEvent {
+    final String name;
+    final WritableMap params;
+
+    PendingEvent(String name, WritableMap params) {
+      this.name = name;
+      this.params = params;
+    }
+  }
 }
@@ -0,0 +1,168 @@
+package com.txplayer.rnuiplayer.player;
+
+import android.os.Bundle;
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+import com.tencent.qcloud.tuiplayer.core.api.NetStatusListener;
+import com.tencent.qcloud.tuiplayer.core.api.TUIPlayerVodStrategy;
+import com.tencent.qcloud.tuiplayer.core.api.common.TUIConstants;
+import com.tencent.qcloud.tuiplayer.core.api.model.TUIPlaySource;
+
+/**
+ * Estimates throughput from the SDK's net-status callbacks and tunes {@code preloadCount} and
+ * {@code preDownloadSize} in three tiers. A tier only changes after the estimate crossed the
+ * exit threshold for {@link #CONFIRM_SAMPLES} samples in a row and {@link #MIN_DWELL_MS} passed
+ * since the last change, so the strategy doesn't oscillate.
+ */
+final class RNAdaptiveStrategy implements NetStatusListener {
+
+  static final int TIER_LOW = 0;
+  static final int TIER_NORMAL = 1;
+  static final int TIER_HIGH = 2;
+
+  /** Download speed over video bitrate needed to enter / stay in a tier. */
+  private static final float LOW_ENTER = 1.5f;
+  private static final float LOW_EXIT = 2f;
+  private static final float HIGH_ENTER = 4f;
+  private static final float HIGH_EXIT = 3f;
+  /** Speeds in KB/s used while the bitrate is still unknown. */
+  private static final float LOW_SPEED_KBPS = 250f;
+  private static final float HIGH_SPEED_KBPS = 1500f;
+
+  private static final float ALPHA = 0.3f;
+  private static final int CONFIRM_SAMPLES = 3;
+  private static final long MIN_DWELL_MS = 10_000L;
+  private static final int MAX_PRELOAD_COUNT = 6;
+  private static final float MAX_PRE_DOWNLOAD_SIZE = 4f;
+
+  interface Callback {
+    void onTierChanged(int tier);
+  }
+
+  private final Callback callback;
+  private float speedKBps = 0;
+  private float bitrateKbps = 0;
+  private int tier = TIER_NORMAL;
+  private int candidate = TIER_NORMAL;
+  private int candidateSamples = 0;
+  private long changedAt = 0;
+  private long samples = 0;
+  private long changes = 0;
+  @Nullable private TUIPlayerVodStrategy tunedBase;
+  @Nullable private TUIPlayerVodStrategy tuned;
+  private int tunedTier = -1;
+
+  RNAdaptiveStrategy(Callback callback) {
+    this.callback = callback;
+  }
+
+  @Override
+  public void onPlayerNetStatus(TUIPlaySource source, Bundle bundle) {
+    int next;
+    synchronized (this) {
+      int speed = bundle.getInt(TUIConstants.TUINetConst.NET_STATUS_NET_SPEED, 0);
+      if (speed <= 0) {
+        return;
+      }
+      int bitrate = bundle.getInt(TUIConstants.TUINetConst.NET_STATUS_VIDEO_BITRATE, 0);
+      samples++;
+      speedKBps = speedKBps == 0 ? speed : speedKBps + ALPHA * (speed - speedKBps);
+      if (bitrate > 0) {
+        bitrateKbps = bitrateKbps == 0 ? bitrate : bitrateKbps + ALPHA * (bitrate - bitrateKbps);
+      }
+      next = evaluate();
+      if (next == tier) {
+        candidateSamples = 0;
+        return;
+      }
+      if (next != candidate) {
+        candidate = next;
+        candidateSamples = 0;
+      }
+      long now = SystemClock.elapsedRealtime();
+      if (++candidateSamples < CONFIRM_SAMPLES || now - changedAt < MIN_DWELL_MS) {
+        return;
+      }
+      tier = next;
+      changedAt = now;
+      candidateSamples = 0;
+      changes++;
+    }
+    callback.onTierChanged(next);
+  }
+
+  /** Target tier for the current estimate, honouring the stay thresholds of the current tier. */
+  private int evaluate() {
+    if (bitrateKbps <= 0) {
+      if (speedKBps < LOW_SPEED_KBPS) {
+        return TIER_LOW;
+      }
+      return speedKBps > HIGH_SPEED_KBPS ? TIER_HIGH : TIER_NORMAL;
+    }
+    float headroom = speedKBps * 8f / bitrateKbps;
+    if (headroom < (tier == TIER_LOW ? LOW_EXIT : LOW_ENTER)) {
+      return TIER_LOW;
+    }
+    if (headroom > (tier == TIER_HIGH ? HIGH_EXIT : HIGH_ENTER)) {
+      return TIER_HIGH;
+    }
+    return TIER_NORMAL;
+  }
+
+  /** Returns {@code base} tuned for the current tier; the same instance while nothing changed. */
+  synchronized TUIPlayerVodStrategy tune(TUIPlayerVodStrategy base) {
+    if (tier == TIER_NORMAL) {
+      return base;
+    }
+    if (base == tunedBase && tier == tunedTier && tuned != null) {
+      return tuned;
+    }
+    int count = base.getPreloadConcurrentCount();
+    float preDownload = base.getPreDownloadSize();
+    if (tier == TIER_LOW) {
+      count = Math.min(count, 1);
+      preDownload = Math.min(preDownload, 0.5f);
+    } else {
+      // Widens only: an app base above the caps is kept as configured.
+      count = Math.max(count, Math.min(MAX_PRELOAD_COUNT, count + 2));
+      preDownload = Math.max(preDownload, Math.min(MAX_PRE_DOWNLOAD_SIZE, preDownload * 2f));
+    }
+    tunedBase = base;
+    tunedTier = tier;
+    tuned =
+        new TUIPlayerVodStrategy.Builder(base)
+            .setPreloadCount(count)
+            .setPreDownloadSize(preDownload)
+            .build();
+    return tuned;
+  }
+
+  synchronized void reset() {
+    speedKBps = 0;
+    bitrateKbps = 0;
+    tier = TIER_NORMAL;
+    candidate = TIER_NORMAL;
+    candidateSamples = 0;
+    tuned = null;
+    tunedBase = null;
+    tunedTier = -1;
+  }
+
+  synchronized int getTier() {
+    return tier;
+  }
+
+  synchronized float getSpeedKBps() {
+    return speedKBps;
+  }
+
+  synchronized long getSampleCount() {
+    return samples;
+  }
+
+  synchronized long getChangeCount() {
+    return changes;
+  }
+}
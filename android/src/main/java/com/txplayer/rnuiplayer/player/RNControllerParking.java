@@ -0,0 +1,90 @@
+package com.txplayer.rnuiplayer.player;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Parking for inactive controllers. Nothing is shared between controllers: the SDK keeps players
+ * and decoders private to each {@code TUIPlayerManager}. Inactive controllers keep their own
+ * players warm up to {@link #getMaxIdle()}; the least recently used ones beyond that cap are parked
+ * (players released, models kept) and rebuild their players when they are used again.
+ */
+final class RNControllerParking {
+
+  static final int DEFAULT_MAX_IDLE = 2;
+
+  private final LinkedHashMap<Integer, RNShortController> idle = new LinkedHashMap<>();
+  private int maxIdle = DEFAULT_MAX_IDLE;
+  private long hits = 0;
+  private long misses = 0;
+  private long parkedCount = 0;
+
+  synchronized void setMaxIdle(int cap) {
+    maxIdle = Math.max(0, cap);
+    trim();
+  }
+
+  synchronized int getMaxIdle() {
+    return maxIdle;
+  }
+
+  /** The controller went to the background; its players stay warm until the cap is exceeded. */
+  synchronized void onDeactivated(RNShortController controller) {
+    idle.remove(controller.getControllerId());
+    idle.put(controller.getControllerId(), controller);
+    trim();
+  }
+
+  /** Counts a warm hit if the controller's players survived while it was inactive. */
+  synchronized void onActivated(RNShortController controller, boolean warm) {
+    if (idle.remove(controller.getControllerId()) == null) {
+      // Was not inactive, nothing to count.
+      return;
+    }
+    if (warm) {
+      hits++;
+    } else {
+      misses++;
+    }
+  }
+
+  synchronized void onReleased(int controllerId) {
+    idle.remove(controllerId);
+  }
+
+  private void trim() {
+    int warm = countWarm();
+    Iterator<RNShortController> iterator = idle.values().iterator();
+    while (warm > maxIdle && iterator.hasNext()) {
+      RNShortController controller = iterator.next();
+      if (!controller.isParked()) {
+        parkedCount++;
+        warm--;
+        controller.park();
+      }
+    }
+  }
+
+  private int countWarm() {
+    int warm = 0;
+    for (RNShortController controller : idle.values()) {
+      if (!controller.isParked()) {
+        warm++;
+      }
+    }
+    return warm;
+  }
+
+  synchronized WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putInt("maxIdle", maxIdle);
+    stats.putInt("idleWarm", countWarm());
+    stats.putDouble("hits", hits);
+    stats.putDouble("misses", misses);
+    stats.putDouble("parked", parkedCount);
+    return stats;
+  }
+}
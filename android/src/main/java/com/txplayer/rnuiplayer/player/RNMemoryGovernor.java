@@ -0,0 +1,207 @@
+package com.txplayer.rnuiplayer.player;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.tencent.qcloud.tuiplayer.core.api.TUIPlayerVodStrategy;
+import com.tencent.qcloud.tuiplayer.core.tools.TUIPlayerLog;
+import com.txplayer.rnuiplayer.tools.RNCoverCache;
+import com.txplayer.rnuiplayer.tools.RNSnapshotCache;
+import com.txplayer.rnuiplayer.view.RNItemViewPool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spreads one preload memory budget across live controllers and shrinks their vod strategies
+ * under memory pressure. Usage is estimated from the strategy itself: every preloaded item holds
+ * up to {@code preloadBufferSizeInMB} and the playing item up to {@code maxBufferSize}.
+ *
+ * <p>Active controllers weigh {@link #WEIGHT_ACTIVE} times more than inactive ones; parked
+ * controllers hold no buffers and get nothing.
+ *
+ * <p>Strategies are computed under this object's lock and applied to the controllers after it is
+ * released, so the governor never holds its lock while taking a controller's.
+ */
+final class RNMemoryGovernor implements ComponentCallbacks2 {
+
+  private static final String TAG = "RNMemoryGovernor";
+
+  static final int WEIGHT_ACTIVE = 3;
+  static final int WEIGHT_INACTIVE = 1;
+
+  private static final long BYTES_PER_MB = 1024L * 1024L;
+  private static final float MIN_PRELOAD_BUFFER_MB = 0.1f;
+  private static final float MIN_MAX_BUFFER_MB = 1f;
+  /** Pressure is forgotten once no trim callback arrived for this long. */
+  private static final long PRESSURE_DECAY_MS = 60_000L;
+
+  private final Collection<RNShortController> controllers;
+  private long budgetBytes = 0;
+  private int trimLevel = 0;
+  private long trimAt = 0;
+  private long trims = 0;
+  private long usedBytes = 0;
+  private long requestedBytes = 0;
+  private int shrunk = 0;
+  private long generation = 0;
+
+  RNMemoryGovernor(Collection<RNShortController> controllers) {
+    this.controllers = controllers;
+  }
+
+  /** {@code bytes} of 0 disables the budget; strategies then shrink only under memory pressure. */
+  void setBudget(long bytes) {
+    synchronized (this) {
+      budgetBytes = Math.max(0, bytes);
+    }
+    rebalance();
+  }
+
+  /** Recomputes and applies every controller's effective strategy. */
+  void rebalance() {
+    List<RNShortController> targets = new ArrayList<>();
+    List<TUIPlayerVodStrategy> strategies = new ArrayList<>();
+    long stamp;
+    synchronized (this) {
+      stamp = ++generation;
+      computeLocked(targets, strategies);
+    }
+    for (int i = 0; i < targets.size(); i++) {
+      targets.get(i).applyStrategy(strategies.get(i), stamp);
+    }
+  }
+
+  private void computeLocked(
+      List<RNShortController> targets, List<TUIPlayerVodStrategy> strategies) {
+    float pressure = pressureFactor();
+    long requested = 0;
+    int totalWeight = 0;
+    for (RNShortController controller : controllers) {
+      requested += estimateBytes(controller.getRequestedStrategy());
+      totalWeight += weightOf(controller);
+    }
+    requestedBytes = requested;
+    long budget = budgetBytes > 0 ? budgetBytes : requested;
+    long effective = (long) (budget * pressure);
+    boolean governed = budgetBytes > 0 || pressure < 1f;
+    long used = 0;
+    int shrunkCount = 0;
+    for (RNShortController controller : controllers) {
+      TUIPlayerVodStrategy wanted = controller.getRequestedStrategy();
+      int weight = weightOf(controller);
+      TUIPlayerVodStrategy applied = wanted;
+      if (governed && weight > 0 && totalWeight > 0) {
+        long share = effective * weight / totalWeight;
+        if (estimateBytes(wanted) > share) {
+          applied = shrink(wanted, share);
+          shrunkCount++;
+        }
+      }
+      if (weight > 0) {
+        used += estimateBytes(applied);
+      }
+      targets.add(controller);
+      strategies.add(applied);
+    }
+    usedBytes = used;
+    shrunk = shrunkCount;
+  }
+
+  private static int weightOf(RNShortController controller) {
+    if (controller.isParked()) {
+      return 0;
+    }
+    return controller.isActive() ? WEIGHT_ACTIVE : WEIGHT_INACTIVE;
+  }
+
+  static long estimateBytes(TUIPlayerVodStrategy strategy) {
+    float mb =
+        strategy.getPreloadConcurrentCount() * strategy.getPreloadBufferSizeInMB()
+            + strategy.getMaxBufferSize();
+    return (long) (mb * BYTES_PER_MB);
+  }
+
+  /** Scales buffers down to {@code shareBytes}, then drops preload items if that is not enough. */
+  private static TUIPlayerVodStrategy shrink(TUIPlayerVodStrategy strategy, long shareBytes) {
+    float shareMb = (float) shareBytes / BYTES_PER_MB;
+    float scale = shareMb / Math.max(0.001f, (float) estimateBytes(strategy) / BYTES_PER_MB);
+    float preloadMb = Math.max(MIN_PRELOAD_BUFFER_MB, strategy.getPreloadBufferSizeInMB() * scale);
+    float maxMb = Math.max(MIN_MAX_BUFFER_MB, strategy.getMaxBufferSize() * scale);
+    int count = strategy.getPreloadConcurrentCount();
+    while (count > 1 && count * preloadMb + maxMb > shareMb) {
+      count--;
+    }
+    return new TUIPlayerVodStrategy.Builder(strategy)
+        .setPreloadCount(count)
+        .setPreLoadBufferSize(preloadMb)
+        .setMaxBufferSize(maxMb)
+        .build();
+  }
+
+  private float pressureFactor() {
+    if (trimLevel == 0) {
+      return 1f;
+    }
+    if (SystemClock.elapsedRealtime() - trimAt > PRESSURE_DECAY_MS) {
+      trimLevel = 0;
+      return 1f;
+    }
+    if (trimLevel >= TRIM_MEMORY_COMPLETE || trimLevel == TRIM_MEMORY_RUNNING_CRITICAL) {
+      return 0.25f;
+    }
+    if (trimLevel >= TRIM_MEMORY_BACKGROUND || trimLevel == TRIM_MEMORY_RUNNING_LOW) {
+      return 0.5f;
+    }
+    if (trimLevel == TRIM_MEMORY_RUNNING_MODERATE) {
+      return 0.75f;
+    }
+    // TRIM_MEMORY_UI_HIDDEN: nothing to give back yet.
+    return 1f;
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level == TRIM_MEMORY_UI_HIDDEN) {
+      return;
+    }
+    synchronized (this) {
+      TUIPlayerLog.w(TAG, "onTrimMemory level:" + level);
+      RNCoverCache.trimMemory(level);
+      if (level >= TRIM_MEMORY_BACKGROUND || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+        RNSnapshotCache.trimMemory();
+        RNItemViewPool.clear();
+      }
+      trimLevel = level;
+      trimAt = SystemClock.elapsedRealtime();
+      trims++;
+    }
+    rebalance();
+  }
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  synchronized WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putDouble("budgetBytes", budgetBytes);
+    stats.putDouble("usedBytes", usedBytes);
+    stats.putDouble("requestedBytes", requestedBytes);
+    stats.putDouble("pressure", pressureFactor());
+    stats.putInt("trimLevel", trimLevel);
+    stats.putDouble("trims", trims);
+    stats.putInt("shrunk", shrunk);
+    return stats;
+  }
+}
@@ -0,0 +1,97 @@
+package com.txplayer.rnuiplayer.player;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.facebook.react.bridge.UiThreadUtil;
+import com.tencent.qcloud.tuiplayer.core.tools.TUIPlayerLog;
+import com.txplayer.rnuiplayer.tools.RNThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-controller serial queue for model operations and the binds issued behind them. Background
+ * steps run one at a time in submission order on a shared pool, so a long load of one feed never
+ * delays another. Each step hands its result to the main thread with {@link #postMain}; the main
+ * thread is the only one that mutates a controller's data holder, current index and current view.
+ */
+final class RNModelQueue {
+
+  private static final String TAG = "RNModelQueue";
+
+  private static final ExecutorService POOL =
+      Executors.newCachedThreadPool(new RNThreadFactory("txplayer-models"));
+  private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+  private final ArrayDeque<Runnable> steps = new ArrayDeque<>();
+  private boolean running = false;
+  /** Steps submitted whose main-thread work has not run yet. */
+  private final AtomicInteger pending = new AtomicInteger();
+
+  /** Runs {@code step} in the background after every earlier step has been handed to main. */
+  void submit(Runnable step) {
+    pending.incrementAndGet();
+    synchronized (this) {
+      steps.add(step);
+      if (running) {
+        return;
+      }
+      running = true;
+    }
+    POOL.execute(this::drain);
+  }
+
+  /** Runs {@code op} on the main thread after the work of every earlier step. */
+  void runOnMain(Runnable op) {
+    submit(() -> postMain(op));
+  }
+
+  /**
+   * Runs a bind of {@code viewTags} on the main thread. With nothing queued it runs right away,
+   * keeping its order with player commands posted after it; otherwise it waits for the queued model
+   * work and the commands for those views wait for it.
+   */
+  void runBind(int[] viewTags, Runnable bind) {
+    if (pending.get() == 0) {
+      UiThreadUtil.runOnUiThread(bind);
+      return;
+    }
+    RNPlayerCommandQueue.hold(viewTags);
+    runOnMain(
+        () -> {
+          try {
+            bind.run();
+          } finally {
+            RNPlayerCommandQueue.release(viewTags);
+          }
+        });
+  }
+
+  /** Called from a step; main-thread work is applied in the order it was posted. */
+  void postMain(Runnable op) {
+    MAIN_HANDLER.post(op);
+  }
+
+  private void drain() {
+    while (true) {
+      Runnable step;
+      synchronized (this) {
+        step = steps.poll();
+        if (step == null) {
+          running = false;
+          return;
+        }
+      }
+      try {
+        step.run();
+      } catch (RuntimeException e) {
+        TUIPlayerLog.e(TAG, "model step failed", e);
+      }
+      // Posted behind the step's own main-thread work, so pending reaches 0 only after it ran.
+      MAIN_HANDLER.post(pending::decrementAndGet);
+    }
+  }
+}
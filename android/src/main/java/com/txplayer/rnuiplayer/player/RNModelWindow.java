@@ -0,0 +1,214 @@
+package com.txplayer.rnuiplayer.player;
+
+import androidx.annotation.Nullable;
+
+import com.tencent.qcloud.tuiplayer.core.api.model.TUIPlaySource;
+import com.tencent.qcloud.tuiplayer.core.api.model.TUIVideoSource;
+import com.tencent.qcloud.tuiplayer.core.api.tools.TUIDataUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Keeps only models within {@code radius} of the current index fully loaded. Models outside the
+ * window are replaced by stubs that keep only the play identity (url / fileId / pSign) and drop
+ * cover, extInfo, subtitles and video config; full models are requested from JS again when they
+ * re-enter the window, so windowing needs a model provider on the JS side. The SDK keeps one list
+ * entry per index, so what stays per model outside the window is that entry plus its stub.
+ *
+ * <p>A request whose answer has not arrived after {@link #REQUEST_TIMEOUT_MS}, or whose indices
+ * left the window, is forgotten so the range is asked for again.
+ */
+final class RNModelWindow {
+
+  static final int MIN_RADIUS = 3;
+  static final long REQUEST_TIMEOUT_MS = 5000;
+
+  private volatile int radius = 0;
+  private final BitSet full = new BitSet();
+  private final BitSet requested = new BitSet();
+  private long requestCount = 0;
+  private long lastRequestAt = 0;
+  private long expiredCount = 0;
+  private long stubbedCount = 0;
+
+  boolean isEnabled() {
+    return radius > 0;
+  }
+
+  int getRadius() {
+    return radius;
+  }
+
+  /** {@code newRadius} of 0 disables windowing; existing models are treated as fully loaded. */
+  synchronized void setRadius(int newRadius, int modelCount) {
+    radius = newRadius <= 0 ? 0 : Math.max(MIN_RADIUS, newRadius);
+    full.clear();
+    requested.clear();
+    if (radius > 0 && modelCount > 0) {
+      full.set(0, modelCount);
+    }
+  }
+
+  synchronized void clear() {
+    full.clear();
+    requested.clear();
+  }
+
+  boolean inWindow(int index, int current) {
+    return index >= current - radius && index <= current + radius;
+  }
+
+  /** Copies models for the data holder, stubbing the ones that land outside the window. */
+  synchronized List<TUIPlaySource> prepare(
+      List<? extends TUIPlaySource> sources, int offset, int current) {
+    if (!isEnabled()) {
+      return TUIDataUtils.copyModels(sources);
+    }
+    List<TUIPlaySource> result = new ArrayList<>(sources.size());
+    for (int i = 0; i < sources.size(); i++) {
+      int index = offset + i;
+      TUIPlaySource source = sources.get(i);
+      requested.clear(index);
+      if (inWindow(index, current)) {
+        full.set(index);
+        result.add(TUIDataUtils.copyModel(source));
+      } else {
+        full.clear(index);
+        stubbedCount++;
+        result.add(stubOf(source));
+      }
+    }
+    return result;
+  }
+
+  /** Shifts tracked indices at or after {@code index} right by {@code count}. */
+  synchronized void onInserted(int index, int count) {
+    shift(full, index, count);
+    shift(requested, index, count);
+  }
+
+  /** Drops tracked indices in [index, index + count) and shifts the tail left. */
+  synchronized void onRemoved(int index, int count) {
+    full.clear(index, index + count);
+    requested.clear(index, index + count);
+    shift(full, index + count, -count);
+    shift(requested, index + count, -count);
+  }
+
+  private static void shift(BitSet bits, int from, int delta) {
+    BitSet tail = bits.get(from, Math.max(from, bits.length()));
+    bits.clear(from, Math.max(from, bits.length()));
+    for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+      bits.set(from + i + delta);
+    }
+  }
+
+  /** Returns indices of fully loaded models that are now outside the window, marking them stubs. */
+  synchronized int[] collectEvictions(int current) {
+    if (!isEnabled()) {
+      return new int[0];
+    }
+    int start = Math.max(0, current - radius);
+    int end = current + radius;
+    int count = full.get(0, start).cardinality();
+    int tail = full.nextSetBit(end + 1);
+    if (tail >= 0) {
+      count += full.get(tail, full.length()).cardinality();
+    }
+    int[] result = new int[count];
+    int n = 0;
+    for (int i = full.nextSetBit(0); i >= 0 && i < start; i = full.nextSetBit(i + 1)) {
+      result[n++] = i;
+    }
+    for (int i = tail; i >= 0; i = full.nextSetBit(i + 1)) {
+      result[n++] = i;
+    }
+    for (int index : result) {
+      full.clear(index);
+    }
+    stubbedCount += count;
+    // Answers for indices that left the window would only be stubbed again; ask afresh on return.
+    requested.clear(0, start);
+    requested.clear(end + 1, Math.max(end + 1, requested.length()));
+    return result;
+  }
+
+  /**
+   * Returns the [start, end] range of stubs inside the window that still need a JS refill.
+   * Outstanding requests older than {@link #REQUEST_TIMEOUT_MS} at {@code now} are asked again.
+   */
+  @Nullable
+  synchronized int[] collectRequest(int current, int modelCount, long now) {
+    if (!isEnabled() || modelCount == 0) {
+      return null;
+    }
+    if (!requested.isEmpty() && now - lastRequestAt >= REQUEST_TIMEOUT_MS) {
+      requested.clear();
+      expiredCount++;
+    }
+    int start = Math.max(0, current - radius);
+    int end = Math.min(modelCount - 1, current + radius);
+    int first = -1;
+    int last = -1;
+    for (int i = start; i <= end; i++) {
+      if (!full.get(i) && !requested.get(i)) {
+        if (first < 0) {
+          first = i;
+        }
+        last = i;
+      }
+    }
+    if (first < 0) {
+      return null;
+    }
+    requested.set(first, last + 1);
+    requestCount++;
+    lastRequestAt = now;
+    return new int[] {first, last};
+  }
+
+  synchronized boolean hasOutstandingRequests() {
+    return !requested.isEmpty();
+  }
+
+  synchronized boolean isFull(int index) {
+    return full.get(index);
+  }
+
+  synchronized void markFull(int index) {
+    full.set(index);
+  }
+
+  synchronized int getFullCount() {
+    return full.cardinality();
+  }
+
+  synchronized long getRequestCount() {
+    return requestCount;
+  }
+
+  synchronized long getStubbedCount() {
+    return stubbedCount;
+  }
+
+  synchronized long getExpiredCount() {
+    return expiredCount;
+  }
+
+  static TUIPlaySource stubOf(TUIPlaySource source) {
+    if (!(source instanceof TUIVideoSource)) {
+      return TUIDataUtils.copyModel(source);
+    }
+    TUIVideoSource videoSource = (TUIVideoSource) source;
+    TUIVideoSource stub = new TUIVideoSource();
+    stub.setVideoURL(videoSource.getVideoURL());
+    stub.setAppId(videoSource.getAppId());
+    stub.setFileId(videoSource.getFileId());
+    stub.setPSign(videoSource.getPSign());
+    stub.setAutoPlay(videoSource.isAutoPlay());
+    stub.setExtViewType(videoSource.getExtViewType());
+    return stub;
+  }
+}
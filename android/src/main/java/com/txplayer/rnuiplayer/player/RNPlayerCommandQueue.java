@@ -0,0 +1,128 @@
+package com.txplayer.rnuiplayer.player;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Thread confinement for vod player commands: every command runs on the main thread, the thread
+ * that owns the views, the SDK bind calls and the player callbacks. Commands are posted to the
+ * main looper in call order, and binds reach the same looper through
+ * {@code UiThreadUtil.runOnUiThread}, so a command always runs after the binds issued before it
+ * and commands for one view never interleave. A bind deferred behind a controller's model work
+ * {@link #hold holds} the commands for its views until it has run. Only the snapshot getters of
+ * {@code RNVodController} are read from other threads.
+ */
+public final class RNPlayerCommandQueue {
+
+  /** Waits longer than one frame are counted as slow. */
+  private static final long SLOW_WAIT_MS = 16;
+
+  private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+  private static final SparseIntArray PENDING_BY_VIEW = new SparseIntArray();
+  /** Deferred binds not yet run, per viewTag. */
+  private static final SparseIntArray HELD = new SparseIntArray();
+  /** Commands posted while their view had a deferred bind, in post order. */
+  private static final SparseArray<List<Runnable>> WAITING = new SparseArray<>();
+  private static int pending = 0;
+  private static int maxPending = 0;
+  private static int maxViewPending = 0;
+  private static long executed = 0;
+  private static long totalWaitMs = 0;
+  private static long maxWaitMs = 0;
+  private static long slowWaits = 0;
+
+  private RNPlayerCommandQueue() {}
+
+  public static void post(int viewTag, Runnable command) {
+    long enqueuedAt = SystemClock.uptimeMillis();
+    Runnable task =
+        () -> {
+          onStart(viewTag, SystemClock.uptimeMillis() - enqueuedAt);
+          command.run();
+        };
+    synchronized (RNPlayerCommandQueue.class) {
+      pending++;
+      maxPending = Math.max(maxPending, pending);
+      int viewPending = PENDING_BY_VIEW.get(viewTag) + 1;
+      PENDING_BY_VIEW.put(viewTag, viewPending);
+      maxViewPending = Math.max(maxViewPending, viewPending);
+      if (HELD.get(viewTag) > 0) {
+        List<Runnable> waiting = WAITING.get(viewTag);
+        if (waiting == null) {
+          waiting = new ArrayList<>();
+          WAITING.put(viewTag, waiting);
+        }
+        waiting.add(task);
+        return;
+      }
+      MAIN_HANDLER.post(task);
+    }
+  }
+
+  /** Called before a bind of {@code viewTags} is deferred; commands for them wait for it. */
+  static synchronized void hold(int[] viewTags) {
+    for (int viewTag : viewTags) {
+      HELD.put(viewTag, HELD.get(viewTag) + 1);
+    }
+  }
+
+  /** Main thread, right after the deferred bind ran: runs the commands it held, in order. */
+  static void release(int[] viewTags) {
+    List<Runnable> ready = new ArrayList<>();
+    synchronized (RNPlayerCommandQueue.class) {
+      for (int viewTag : viewTags) {
+        int held = HELD.get(viewTag) - 1;
+        if (held > 0) {
+          HELD.put(viewTag, held);
+          continue;
+        }
+        HELD.delete(viewTag);
+        List<Runnable> waiting = WAITING.get(viewTag);
+        if (waiting != null) {
+          WAITING.remove(viewTag);
+          ready.addAll(waiting);
+        }
+      }
+    }
+    for (Runnable task : ready) {
+      task.run();
+    }
+  }
+
+  private static synchronized void onStart(int viewTag, long waitMs) {
+    pending--;
+    int viewPending = PENDING_BY_VIEW.get(viewTag) - 1;
+    if (viewPending <= 0) {
+      PENDING_BY_VIEW.delete(viewTag);
+    } else {
+      PENDING_BY_VIEW.put(viewTag, viewPending);
+    }
+    executed++;
+    totalWaitMs += waitMs;
+    maxWaitMs = Math.max(maxWaitMs, waitMs);
+    if (waitMs > SLOW_WAIT_MS) {
+      slowWaits++;
+    }
+  }
+
+  public static synchronized WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putInt("pending", pending);
+    stats.putInt("maxPending", maxPending);
+    stats.putInt("maxViewPending", maxViewPending);
+    stats.putDouble("executed", executed);
+    stats.putDouble("avgWaitMs", executed > 0 ? (double) totalWaitMs / executed : 0);
+    stats.putDouble("maxWaitMs", maxWaitMs);
+    stats.putDouble("slowWaits", slowWaits);
+    return stats;
+  }
+}
@@ -0,0 +1,188 @@
+package com.txplayer.rnuiplayer.player;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sizes the pre-render window from the scroll velocity reported by JS and biases it towards the
+ * scroll direction. Fast flings shrink the window so decoders aren't spent on items the user
+ * skips; slow browsing widens it ahead of the user.
+ *
+ * <p>Also tracks which views were pre-bound to which index, so pre-renders can be started when
+ * an index enters the window and cancelled when it leaves. Entries are dropped when their view
+ * is bound as current, disposed or recycled, or found owned by something else. Plain
+ * {@code java.util} collections keep the class testable on the JVM.
+ */
+final class RNPreRenderWindow {
+
+  /** Pages per second below which the user is considered to be watching. */
+  static final float SLOW_VELOCITY = 0.5f;
+  /** Pages per second above which the scroll is treated as a fling. */
+  static final float FLING_VELOCITY = 3f;
+
+  /** Window used before JS reports any scroll; matches the former fixed distance of 2. */
+  private static final int DEFAULT_RADIUS = 2;
+
+  private int ahead = DEFAULT_RADIUS;
+  private int behind = DEFAULT_RADIUS;
+  private int direction = 1;
+  private final Map<Integer, Integer> boundIndex = new LinkedHashMap<>();
+  private final Set<Integer> rendered = new HashSet<>();
+  private long preRenders = 0;
+  private long skipped = 0;
+  private long cancelled = 0;
+
+  /**
+   * {@code velocity} is in pages per second; positive values scroll towards higher indices.
+   * Returns whether the window changed.
+   */
+  synchronized boolean update(float velocity) {
+    float speed = Math.abs(velocity);
+    int oldDirection = direction;
+    if (speed > 0f) {
+      direction = velocity > 0f ? 1 : -1;
+    }
+    int newAhead;
+    int newBehind;
+    if (speed < SLOW_VELOCITY) {
+      newAhead = 3;
+      newBehind = 1;
+    } else if (speed < FLING_VELOCITY) {
+      newAhead = 2;
+      newBehind = 0;
+    } else {
+      newAhead = 1;
+      newBehind = 0;
+    }
+    boolean changed = newAhead != ahead || newBehind != behind || oldDirection != direction;
+    ahead = newAhead;
+    behind = newBehind;
+    return changed;
+  }
+
+  synchronized boolean inWindow(int index, int current) {
+    int diff = (index - current) * direction;
+    return diff <= ahead && diff >= -behind;
+  }
+
+  synchronized int getSize() {
+    return ahead + behind;
+  }
+
+  synchronized int getAhead() {
+    return ahead;
+  }
+
+  synchronized int getBehind() {
+    return behind;
+  }
+
+  synchronized int getDirection() {
+    return direction;
+  }
+
+  /** Records a pre-bind; returns whether the view should pre-render now. */
+  synchronized boolean onPreBind(int viewTag, int index, int current) {
+    boundIndex.put(viewTag, index);
+    boolean render = inWindow(index, current);
+    setRendered(viewTag, render);
+    if (render) {
+      preRenders++;
+    } else {
+      skipped++;
+    }
+    return render;
+  }
+
+  /** The view now plays the current item, so it no longer takes part in pre-rendering. */
+  synchronized void onBind(int viewTag) {
+    remove(viewTag);
+  }
+
+  /** Forgets {@code viewTag}, e.g. once its view was disposed or recycled. */
+  synchronized void remove(int viewTag) {
+    boundIndex.remove(viewTag);
+    rendered.remove(viewTag);
+  }
+
+  synchronized int[] getViewTags() {
+    int[] tags = new int[boundIndex.size()];
+    int n = 0;
+    for (int viewTag : boundIndex.keySet()) {
+      tags[n++] = viewTag;
+    }
+    return tags;
+  }
+
+  /** Returns the view pre-bound to {@code index}, or -1. */
+  synchronized int viewTagAt(int index) {
+    for (Map.Entry<Integer, Integer> entry : boundIndex.entrySet()) {
+      if (entry.getValue() == index) {
+        return entry.getKey();
+      }
+    }
+    return -1;
+  }
+
+  /** Returns the index {@code viewTag} is pre-bound to, or -1. */
+  synchronized int indexOf(int viewTag) {
+    Integer index = boundIndex.get(viewTag);
+    return index != null ? index : -1;
+  }
+
+  synchronized void clear() {
+    boundIndex.clear();
+    rendered.clear();
+  }
+
+  /**
+   * Returns {viewTag, index, start} triples for pre-bound views whose window state changed, where
+   * start is 1 for a pre-render to start and 0 for one to cancel. Tracking is updated in place.
+   */
+  synchronized int[] reconcile(int current) {
+    int[] changes = new int[boundIndex.size() * 3];
+    int n = 0;
+    for (Map.Entry<Integer, Integer> entry : boundIndex.entrySet()) {
+      int viewTag = entry.getKey();
+      int index = entry.getValue();
+      boolean want = inWindow(index, current);
+      if (want == rendered.contains(viewTag)) {
+        continue;
+      }
+      setRendered(viewTag, want);
+      if (want) {
+        preRenders++;
+      } else {
+        cancelled++;
+      }
+      changes[n++] = viewTag;
+      changes[n++] = index;
+      changes[n++] = want ? 1 : 0;
+    }
+    int[] result = new int[n];
+    System.arraycopy(changes, 0, result, 0, n);
+    return result;
+  }
+
+  private void setRendered(int viewTag, boolean render) {
+    if (render) {
+      rendered.add(viewTag);
+    } else {
+      rendered.remove(viewTag);
+    }
+  }
+
+  synchronized long getPreRenderCount() {
+    return preRenders;
+  }
+
+  synchronized long getSkippedCount() {
+    return skipped;
+  }
+
+  synchronized long getCancelledCount() {
+    return cancelled;
+  }
+}
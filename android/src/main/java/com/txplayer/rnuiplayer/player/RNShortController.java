@@ -1,38 +1,105 @@
 package com.txplayer.rnuiplayer.player;
 
 import android.content.Context;
+import android.os.SystemClock;
+import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableMap;
 import com.tencent.qcloud.tuiplayer.core.api.TUIPlayerBridge;
 import com.tencent.qcloud.tuiplayer.core.api.TUIPlayerManager;
 import com.tencent.qcloud.tuiplayer.core.api.TUIPlayerVodStrategy;
+import com.tencent.qcloud.tuiplayer.core.api.common.TUIConstants;
+import com.tencent.qcloud.tuiplayer.core.api.common.TUIErrorCode;
 import com.tencent.qcloud.tuiplayer.core.api.model.TUIPlaySource;
 import com.tencent.qcloud.tuiplayer.core.api.model.TUIVideoSource;
-import com.tencent.qcloud.tuiplayer.core.api.tools.TUIDataUtils;
 import com.tencent.qcloud.tuiplayer.core.api.ui.player.ITUIVodPlayer;
 import com.tencent.qcloud.tuiplayer.core.api.ui.view.TUIBaseVideoView;
 import com.tencent.qcloud.tuiplayer.core.preload.TUIVideoDataHolder;
 import com.tencent.qcloud.tuiplayer.core.tools.TUIPlayerLog;
+import com.txplayer.rnuiplayer.common.RNConstant;
+import com.txplayer.rnuiplayer.common.TxplayerEventDispatcher;
+import com.txplayer.rnuiplayer.player.event.RNEventCodeFilter;
+import com.txplayer.rnuiplayer.tools.RNCoverCache;
+import com.txplayer.rnuiplayer.tools.RNSourceBatchLoader;
+import com.txplayer.rnuiplayer.tools.RNTransformer;
 import com.txplayer.rnuiplayer.view.RNShortVideoItemView;
 import com.txplayer.rnuiplayer.view.RNViewRegistry;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Future;
 
+/**
+ * One short-video feed. The data holder, the manager, {@code currentIndex} and
+ * {@code currentViewTag} are owned by the main thread: model operations go through
+ * {@link RNModelQueue}, which converts in the background and applies on the main thread, and binds
+ * run there behind any queued model work. Activation, scroll state, parking and release are
+ * applied on the main thread as well.
+ */
 public class RNShortController implements TUIPlayerBridge {
 
   private static final String TAG = "RNShortController";
 
-  private final TUIPlayerManager manager;
-  private final TUIVideoDataHolder dataHolder;
+  /** Covers prefetched past the pre-render window in the scroll direction. */
+  private static final int COVER_PREFETCH_EXTRA = 2;
+
+  public static final int ROLE_BIND = 0;
+  public static final int ROLE_PRE_BIND = 1;
+  /** Entries that could not be read; they are left unbound and reported as failed. */
+  public static final int ROLE_SKIP = -1;
+
+  /** Strategy assumed for controllers JS never configured; matches the JS-side defaults. */
+  private static final TUIPlayerVodStrategy DEFAULT_STRATEGY =
+      RNTransformer.transformVodStrategy(null);
+
+  public interface ModelCallback {
+    void onResult(long result);
+
+    void onError(Throwable error);
+  }
+
+  private final Context context;
+  /** Replaced only by {@link #unpark()}; volatile so callers on any thread see the new set. */
+  private volatile TUIPlayerManager manager;
+  private volatile TUIVideoDataHolder dataHolder;
   private final RNShortEngineObserver engineObserver;
   private final int controllerId;
-  private int currentIndex;
+  private final RNEventCodeFilter eventFilter = new RNEventCodeFilter();
+  private final RNModelWindow modelWindow = new RNModelWindow();
+  private final RNPreRenderWindow preRenderWindow = new RNPreRenderWindow();
+  private final RNModelQueue modelQueue = new RNModelQueue();
+  private final RNShortVideoItemView.ReleaseListener viewReleaseListener = this::onViewReleased;
+  private final RNAdaptiveStrategy adaptiveStrategy =
+      new RNAdaptiveStrategy(tier -> engineObserver.onStrategyChanged(this));
+  /** Guards the adaptive toggle and its net listener; never held while calling out. */
+  private final Object adaptiveLock = new Object();
+  private volatile boolean adaptiveEnabled = false;
+  private volatile int currentIndex;
+  private int currentViewTag = -1;
   private boolean isLoop = true;
+  private volatile boolean resolveOnFirstChunk = false;
+  private volatile int scrollState = TUIConstants.TUIScrollState.IDLE;
+  private volatile int targetIndex = -1;
+  private volatile boolean active = true;
+  private volatile boolean parked = false;
+  private volatile boolean released = false;
+  /** Main thread only: a check for unanswered model requests is already posted. */
+  private boolean requestRetryPosted = false;
+  @Nullable private List<TUIPlaySource> parkedModels;
+  private volatile int rebindViewTag = -1;
+  @Nullable private volatile TUIPlayerVodStrategy vodStrategy;
+  @Nullable private volatile TUIPlayerVodStrategy appliedStrategy;
+  private long appliedGeneration = -1;
 
   public RNShortController(Context context, int controllerId, RNShortEngineObserver observer) {
+    this.context = context;
     this.controllerId = controllerId;
     this.engineObserver = observer;
     this.manager = new TUIPlayerManager(context, this);
@@ -40,25 +107,474 @@ public class RNShortController implements TUIPlayerBridge {
   }
 
   public long setModels(List<TUIVideoSource> sources) {
-    List<TUIPlaySource> copy = TUIDataUtils.copyModels(sources);
+    ensureWarm();
+    modelWindow.clear();
+    preRenderWindow.clear();
+    currentViewTag = -1;
+    List<TUIPlaySource> copy = modelWindow.prepare(sources, 0, currentIndex);
     return manager.setModels(copy);
   }
 
   public long appendModels(List<TUIVideoSource> sources) {
-    List<TUIPlaySource> copy = TUIDataUtils.copyModels(sources);
+    ensureWarm();
+    List<TUIPlaySource> copy = modelWindow.prepare(sources, dataHolder.size(), currentIndex);
     return manager.appendModels(copy);
   }
 
+  /** Runs {@code op} on the main thread after every model operation queued before it. */
+  public void enqueueModelOp(Runnable op) {
+    modelQueue.runOnMain(op);
+  }
+
+  /**
+   * Runs a bind of {@code viewTags} on the main thread once the model operations queued before it
+   * are applied; player commands for those views posted meanwhile run after it.
+   */
+  public void runBind(int[] viewTags, Runnable bind) {
+    modelQueue.runBind(viewTags, bind);
+  }
+
+  public void runBind(int viewTag, Runnable bind) {
+    runBind(new int[] {viewTag}, bind);
+  }
+
+  /**
+   * Opt-in: streamed loads resolve once their first chunk is in the data holder instead of after
+   * the last one. A later chunk that fails is then reported with a models-failed event.
+   */
+  public void setResolveOnFirstChunk(boolean enabled) {
+    resolveOnFirstChunk = enabled;
+  }
+
+  /** Main-thread progress of one streamed load. */
+  private static final class StreamState {
+    long status = TUIErrorCode.TUI_ERROR_NONE;
+    int published = 0;
+    boolean resolved = false;
+  }
+
+  /**
+   * Converts a large batch in background chunks and publishes each chunk as soon as it is ready.
+   * {@code callback} fires after the last chunk, or after the first one with
+   * {@link #setResolveOnFirstChunk}; later model operations and binds queue behind every chunk.
+   */
+  public void loadModelsStreaming(ReadableArray sources, boolean append, ModelCallback callback) {
+    final long startNanos = SystemClock.elapsedRealtimeNanos();
+    final int size = sources.size();
+    final boolean resolveEarly = resolveOnFirstChunk;
+    final List<Future<List<TUIVideoSource>>> chunks = RNSourceBatchLoader.convertChunks(sources);
+    final StreamState state = new StreamState();
+    modelQueue.submit(
+        () -> {
+          for (int i = 0; i < chunks.size(); i++) {
+            final List<TUIVideoSource> chunk;
+            try {
+              chunk = chunks.get(i).get();
+            } catch (Exception e) {
+              for (int j = i + 1; j < chunks.size(); j++) {
+                chunks.get(j).cancel(false);
+              }
+              modelQueue.postMain(() -> onStreamFailed(state, callback, e));
+              return;
+            }
+            final boolean replace = i == 0 && !append;
+            final boolean resolve = resolveEarly ? i == 0 : i == chunks.size() - 1;
+            modelQueue.postMain(
+                () -> {
+                  // A failed chunk ends the load; later ones would leave a gap in the feed.
+                  if (state.status == TUIErrorCode.TUI_ERROR_NONE) {
+                    publishChunk(state, chunk, replace, resolve, callback);
+                  }
+                });
+          }
+          RNSourceBatchLoader.recordBatch(
+              size, SystemClock.elapsedRealtimeNanos() - startNanos, true);
+        });
+  }
+
+  private void publishChunk(
+      StreamState state,
+      List<TUIVideoSource> chunk,
+      boolean replace,
+      boolean resolve,
+      ModelCallback callback) {
+    try {
+      long result = replace ? setModels(chunk) : appendModels(chunk);
+      if (result != TUIErrorCode.TUI_ERROR_NONE) {
+        state.status = result;
+      }
+      state.published += chunk.size();
+    } catch (RuntimeException e) {
+      onStreamFailed(state, callback, e);
+      return;
+    }
+    if (!state.resolved && (resolve || state.status != TUIErrorCode.TUI_ERROR_NONE)) {
+      state.resolved = true;
+      callback.onResult(state.status);
+    }
+  }
+
+  private void onStreamFailed(StreamState state, ModelCallback callback, Throwable error) {
+    TUIPlayerLog.e(TAG, "streamed models failed, controller:" + controllerId, error);
+    state.status = TUIErrorCode.TUI_ERROR_INVALID_PARAMS;
+    if (!state.resolved) {
+      state.resolved = true;
+      callback.onError(error);
+      return;
+    }
+    WritableMap params = TxplayerEventDispatcher.createParams();
+    params.putInt("controllerId", controllerId);
+    params.putInt("loaded", state.published);
+    params.putString("message", String.valueOf(error.getMessage()));
+    TxplayerEventDispatcher.emit(RNConstant.EVENT_MODELS_FAILED, params);
+  }
+
+  /**
+   * Refills models starting at {@code index}, usually in answer to a models-requested event. The
+   * playing index is refilled in place so its player is not rebuilt.
+   */
+  public long replaceModels(int index, List<TUIVideoSource> sources) {
+    ensureWarm();
+    if (sources.isEmpty()) {
+      return 0;
+    }
+    List<TUIPlaySource> copy = modelWindow.prepare(sources, index, currentIndex);
+    int playing = currentIndex - index;
+    if (playing < 0 || playing >= copy.size()) {
+      return manager.replaceRangeModel(copy, index);
+    }
+    refillInPlace(currentIndex, copy.get(playing));
+    long result = TUIErrorCode.TUI_ERROR_NONE;
+    if (playing > 0) {
+      result = manager.replaceRangeModel(copy.subList(0, playing), index);
+    }
+    if (playing + 1 < copy.size()) {
+      long tail =
+          manager.replaceRangeModel(copy.subList(playing + 1, copy.size()), currentIndex + 1);
+      if (result == TUIErrorCode.TUI_ERROR_NONE) {
+        result = tail;
+      }
+    }
+    return result;
+  }
+
+  /** Copies the fields a stub dropped back onto the live source at {@code index}. */
+  private void refillInPlace(int index, TUIPlaySource full) {
+    TUIPlaySource live = dataHolder.getSource(index);
+    if (live == null
+        || !TextUtils.equals(RNTransformer.sourceKey(live), RNTransformer.sourceKey(full))) {
+      TUIPlayerLog.w(TAG, "skip refill of playing index:" + index + ", source changed");
+      return;
+    }
+    if (live instanceof TUIVideoSource && full instanceof TUIVideoSource) {
+      TUIVideoSource liveVideo = (TUIVideoSource) live;
+      TUIVideoSource fullVideo = (TUIVideoSource) full;
+      liveVideo.setCoverPictureUrl(fullVideo.getCoverPictureUrl());
+      liveVideo.setExternalSubtitle(fullVideo.getExternalSubtitle());
+      liveVideo.setVideoConfig(fullVideo.getVideoConfig());
+    }
+    live.setExtInfoAndNotify(full.getExtInfo());
+  }
+
+  public long insertModels(int index, List<TUIVideoSource> sources) {
+    ensureWarm();
+    final int count = dataHolder.size();
+    if (index < 0 || index > count) {
+      TUIPlayerLog.e(TAG, "insertModels failed, index outOfRange,index:" + index);
+      return TUIErrorCode.TUI_ERROR_INVALID_PARAMS;
+    }
+    if (sources.isEmpty()) {
+      return TUIErrorCode.TUI_ERROR_NONE;
+    }
+    if (index <= currentIndex && count > 0) {
+      currentIndex += sources.size();
+    }
+    modelWindow.onInserted(index, sources.size());
+    preRenderWindow.clear();
+    currentViewTag = -1;
+    List<TUIPlaySource> copy = modelWindow.prepare(sources, index, currentIndex);
+    if (index == count) {
+      return manager.appendModels(copy);
+    }
+    return manager.insertModels(copy, index);
+  }
+
+  public long removeModels(int index, int removeCount) {
+    ensureWarm();
+    final int count = dataHolder.size();
+    if (index < 0 || removeCount <= 0 || index + removeCount > count) {
+      TUIPlayerLog.e(TAG, "removeModels failed, range outOfRange,index:" + index);
+      return TUIErrorCode.TUI_ERROR_INVALID_PARAMS;
+    }
+    List<Integer> indices = new ArrayList<>(removeCount);
+    for (int i = index; i < index + removeCount; i++) {
+      indices.add(i);
+    }
+    if (currentIndex >= index + removeCount) {
+      currentIndex -= removeCount;
+    } else if (currentIndex >= index) {
+      // The playing item is gone; the item that slides into its slot is started on the next bind.
+      currentIndex = Math.max(0, Math.min(index, count - removeCount - 1));
+    }
+    modelWindow.onRemoved(index, removeCount);
+    preRenderWindow.clear();
+    currentViewTag = -1;
+    return manager.removeModelByIndex(indices);
+  }
+
+  public long moveModel(int from, int to) {
+    ensureWarm();
+    final int count = dataHolder.size();
+    if (from < 0 || from >= count || to < 0 || to >= count) {
+      TUIPlayerLog.e(TAG, "moveModel failed, index outOfRange,from:" + from + ", to:" + to);
+      return TUIErrorCode.TUI_ERROR_INVALID_PARAMS;
+    }
+    if (from == to) {
+      return TUIErrorCode.TUI_ERROR_NONE;
+    }
+    boolean wasFull = modelWindow.isFull(from);
+    modelWindow.onRemoved(from, 1);
+    modelWindow.onInserted(to, 1);
+    if (wasFull) {
+      modelWindow.markFull(to);
+    }
+    preRenderWindow.clear();
+    if (currentIndex == from) {
+      return movePlaying(from, to);
+    }
+    if (from < currentIndex && currentIndex <= to) {
+      currentIndex--;
+    } else if (to <= currentIndex && currentIndex < from) {
+      currentIndex++;
+    }
+    currentViewTag = -1;
+    return moveBlock(from, 1, to);
+  }
+
+  /**
+   * Moves the playing item by moving the items between {@code from} and {@code to} the other way,
+   * so its entry and player stay in the list. The bound view is kept, and a bind of it at the new
+   * index finds the player already running.
+   */
+  private long movePlaying(int from, int to) {
+    currentIndex = to;
+    if (to > from) {
+      return moveBlock(from + 1, to - from, from);
+    }
+    return moveBlock(to, from - to, to + 1);
+  }
+
+  /** Removes {@code size} models at {@code start} and inserts them so they begin at {@code to}. */
+  private long moveBlock(int start, int size, int to) {
+    List<TUIPlaySource> block = new ArrayList<>(size);
+    List<Integer> indices = new ArrayList<>(size);
+    for (int i = start; i < start + size; i++) {
+      block.add(dataHolder.getSource(i));
+      indices.add(i);
+    }
+    long result = manager.removeModelByIndex(indices);
+    if (result != TUIErrorCode.TUI_ERROR_NONE) {
+      return result;
+    }
+    if (to == dataHolder.size()) {
+      return manager.appendModels(block);
+    }
+    return manager.insertModels(block, to);
+  }
+
+  public long replaceModel(int index, TUIVideoSource source) {
+    ensureWarm();
+    if (index < 0 || index >= dataHolder.size()) {
+      TUIPlayerLog.e(TAG, "replaceModel failed, index outOfRange,index:" + index);
+      return TUIErrorCode.TUI_ERROR_INVALID_PARAMS;
+    }
+    List<TUIPlaySource> copy =
+        modelWindow.prepare(Collections.singletonList(source), index, currentIndex);
+    return manager.replaceModel(copy.get(0), index);
+  }
+
+  /**
+   * Keeps only models within {@code radius} of the current index fully loaded; 0 disables
+   * windowing. A positive radius needs a JS model provider to refill evicted models.
+   */
+  public long setModelWindow(int radius, boolean hasProvider) {
+    if (radius > 0 && !hasProvider) {
+      TUIPlayerLog.e(TAG, "setModelWindow failed, no model provider,radius:" + radius);
+      return TUIErrorCode.TUI_ERROR_INVALID_PARAMS;
+    }
+    modelWindow.setRadius(radius, dataHolder.size());
+    applyModelWindow();
+    return TUIErrorCode.TUI_ERROR_NONE;
+  }
+
+  public int getModelCount() {
+    return dataHolder.size();
+  }
+
+  RNModelWindow getModelWindow() {
+    return modelWindow;
+  }
+
+  RNPreRenderWindow getPreRenderWindow() {
+    return preRenderWindow;
+  }
+
+  /**
+   * Resizes the pre-render window from the list's scroll velocity in pages per second (positive
+   * towards higher indices), starting or cancelling pre-renders whose index crossed its edge.
+   */
+  public void updateScrollVelocity(float velocity) {
+    if (preRenderWindow.update(velocity)) {
+      UiThreadUtil.runOnUiThread(this::reconcilePreRenders);
+    }
+  }
+
+  /**
+   * Pushes the list's scroll state ({@link TUIConstants.TUIScrollState}) and the index it is
+   * heading to. Preloading is held back while the list moves; once it settles on a pre-bound
+   * index, that view starts playing without waiting for the JS bind.
+   */
+  public void setScrollState(int state, int target) {
+    if (state < TUIConstants.TUIScrollState.IDLE || state > TUIConstants.TUIScrollState.SETTLING) {
+      TUIPlayerLog.w(TAG, "setScrollState ignored, unknown state:" + state);
+      return;
+    }
+    int previous = scrollState;
+    scrollState = state;
+    targetIndex = target;
+    if (previous == state) {
+      return;
+    }
+    if (state == TUIConstants.TUIScrollState.IDLE) {
+      manager.resumePreload();
+      if (target >= 0) {
+        // The view is picked on the main thread, so no player command can be held for it here.
+        runBind(
+            new int[0],
+            () -> {
+              if (target != currentIndex) {
+                postHandlePlayCurrent(target);
+              }
+            });
+      }
+    } else if (previous == TUIConstants.TUIScrollState.IDLE) {
+      manager.pausePreload();
+    }
+  }
+
+  public int getTargetIndex() {
+    return targetIndex;
+  }
+
+  /** Main thread: a view this controller bound was disposed or recycled. */
+  private void onViewReleased(int viewTag) {
+    preRenderWindow.remove(viewTag);
+    if (viewTag == currentViewTag) {
+      currentViewTag = -1;
+    }
+  }
+
+  /** Drops pre-bind entries whose view is gone or was since bound by someone else. */
+  private void prunePreRenders() {
+    for (int viewTag : preRenderWindow.getViewTags()) {
+      RNShortVideoItemView itemView = RNViewRegistry.get(viewTag);
+      int index = preRenderWindow.indexOf(viewTag);
+      if (itemView == null || !itemView.isOwnedBy(controllerId, index)) {
+        preRenderWindow.remove(viewTag);
+      }
+    }
+  }
+
+  private void reconcilePreRenders() {
+    prunePreRenders();
+    int[] changes = preRenderWindow.reconcile(currentIndex);
+    for (int i = 0; i < changes.length; i += 3) {
+      RNShortVideoItemView itemView = RNViewRegistry.get(changes[i]);
+      int index = changes[i + 1];
+      if (itemView == null || index >= dataHolder.size()) {
+        continue;
+      }
+      TUIBaseVideoView videoView = (TUIBaseVideoView) itemView.getVideoItemView();
+      if (changes[i + 2] == 1) {
+        videoView.bindVideoModel(dataHolder.getSource(index));
+        manager.preRenderOnView(videoView);
+      } else {
+        TUIPlayerLog.v(TAG, "cancel preRender index:" + index + ", current:" + currentIndex);
+        videoView.onViewRecycled();
+      }
+    }
+  }
+
   public long startCurrent() {
+    ensureWarm();
     return manager.startCurrent();
   }
 
   public void setVodStrategy(@Nullable TUIPlayerVodStrategy strategy) {
     if (strategy != null) {
+      vodStrategy = strategy;
+      engineObserver.onStrategyChanged(this);
+    }
+  }
+
+  /** The strategy JS asked for, before the memory governor shrinks it. */
+  TUIPlayerVodStrategy getRequestedStrategy() {
+    TUIPlayerVodStrategy strategy = vodStrategy;
+    TUIPlayerVodStrategy base = strategy != null ? strategy : DEFAULT_STRATEGY;
+    return adaptiveEnabled ? adaptiveStrategy.tune(base) : base;
+  }
+
+  /**
+   * Opt-in: tunes preloadCount / preDownloadSize of the configured strategy from measured
+   * throughput. Disabling restores the configured values.
+   */
+  public void setAdaptiveStrategy(boolean enabled) {
+    synchronized (adaptiveLock) {
+      if (adaptiveEnabled == enabled) {
+        return;
+      }
+      adaptiveEnabled = enabled;
+      if (enabled) {
+        manager.addNetListener(adaptiveStrategy);
+      } else {
+        manager.removeNetListener(adaptiveStrategy);
+        adaptiveStrategy.reset();
+      }
+    }
+    engineObserver.onStrategyChanged(this);
+  }
+
+  RNAdaptiveStrategy getAdaptiveStrategy() {
+    return adaptiveStrategy;
+  }
+
+  boolean isAdaptiveEnabled() {
+    return adaptiveEnabled;
+  }
+
+  /**
+   * Called by the memory governor outside its lock; {@code generation} orders concurrent
+   * rebalances so an older result never overwrites a newer one.
+   */
+  synchronized void applyStrategy(TUIPlayerVodStrategy strategy, long generation) {
+    if (generation < appliedGeneration) {
+      return;
+    }
+    appliedGeneration = generation;
+    if (strategy == appliedStrategy || (appliedStrategy == null && strategy == DEFAULT_STRATEGY)) {
+      return;
+    }
+    appliedStrategy = strategy;
+    if (!parked) {
       manager.updateVodStrategy(strategy);
     }
   }
 
+  /** Event code filter shared by every view this controller binds. */
+  public void setEventFilter(int mode, @Nullable int[] codes) {
+    eventFilter.update(mode, codes);
+  }
+
   public void setVideoLoop(boolean loop) {
     this.isLoop = loop;
   }
@@ -67,25 +583,188 @@ public class RNShortController implements TUIPlayerBridge {
     return manager.switchResolution(resolution, switchType);
   }
 
+  public int getControllerId() {
+    return controllerId;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  boolean isParked() {
+    return parked;
+  }
+
+  /**
+   * Inactive controllers (e.g. a feed in a background tab) pause playback and preloading and keep
+   * their own players warm; {@link RNControllerParking} parks them when too many are kept warm.
+   */
+  public void setActive(boolean isActive) {
+    if (active == isActive) {
+      return;
+    }
+    active = isActive;
+    if (!isActive) {
+      if (!parked) {
+        manager.pauseCurrent();
+        manager.pausePreload();
+      }
+      engineObserver.onDeactivated(this);
+      return;
+    }
+    boolean warm = !parked;
+    unpark();
+    engineObserver.onActivated(this, warm);
+    manager.resumePreload();
+    final int viewTag = rebindViewTag;
+    rebindViewTag = -1;
+    if (viewTag != -1) {
+      runBind(
+          viewTag,
+          () -> {
+            // Skipped when JS bound a view in the meantime.
+            if (currentViewTag == -1) {
+              bindVideoViewInternal(viewTag, currentIndex, false, false);
+            }
+          });
+    } else {
+      manager.resumeCurrent();
+    }
+  }
+
+  /**
+   * Rebuilds a parked player set on use. Only inactive controllers are parked, and this leaves the
+   * controller inactive and idle in parking: it is no activation, so no warm miss is counted and no
+   * other controller is parked for it.
+   */
+  private void ensureWarm() {
+    if (!parked) {
+      return;
+    }
+    unpark();
+    if (!active) {
+      manager.pausePreload();
+    }
+  }
+
+  /**
+   * Releases players and decoders while keeping the models, so the set can be rebuilt later. Main
+   * thread: parking runs from {@link #setActive} and from setMaxWarmControllers.
+   */
+  synchronized void park() {
+    if (parked) {
+      return;
+    }
+    TUIPlayerLog.i(TAG, "park controller " + controllerId);
+    List<TUIPlaySource> models = new ArrayList<>(dataHolder.size());
+    for (int i = 0; i < dataHolder.size(); i++) {
+      models.add(dataHolder.getSource(i));
+    }
+    parkedModels = models;
+    parked = true;
+    preRenderWindow.clear();
+    // Released before the lock is dropped, so unpark() never builds a new set while the old one
+    // still holds players and decoders.
+    manager.releasePlayers();
+  }
+
+  private synchronized void unpark() {
+    if (!parked) {
+      return;
+    }
+    TUIPlayerLog.i(TAG, "unpark controller " + controllerId);
+    synchronized (adaptiveLock) {
+      manager = new TUIPlayerManager(context, this);
+      dataHolder = manager.getDataHolder();
+      if (adaptiveEnabled) {
+        manager.addNetListener(adaptiveStrategy);
+      }
+    }
+    if (appliedStrategy != null) {
+      manager.updateVodStrategy(appliedStrategy);
+    }
+    if (parkedModels != null) {
+      manager.setModels(parkedModels);
+      parkedModels = null;
+    }
+    parked = false;
+    // The view was bound to the released manager; rebind it once the controller is active.
+    rebindViewTag = currentViewTag;
+    currentViewTag = -1;
+  }
+
   public void release() {
     TUIPlayerLog.i(TAG, "release controller " + controllerId);
-    manager.releasePlayers();
+    released = true;
+    if (!parked) {
+      manager.releasePlayers();
+    }
     engineObserver.onRelease(controllerId);
   }
 
   public boolean bindVideoView(int viewTag, int index) {
-    return bindVideoViewInternal(viewTag, index, false);
+    return bindVideoViewInternal(viewTag, index, false, true);
   }
 
   public boolean preBindVideo(int viewTag, int index) {
-    return bindVideoViewInternal(viewTag, index, true);
+    return bindVideoViewInternal(viewTag, index, true, true);
   }
 
-  private boolean bindVideoViewInternal(int viewTag, int index, boolean isPreBind) {
+  /**
+   * Binds the current view and pre-binds its neighbours in one UI-thread pass. The bind goes
+   * first so the pre-render window is centred on the new index; pre-binds follow nearest first,
+   * ahead of the scroll direction before behind it. Returns per-entry success in input order;
+   * {@link #ROLE_SKIP} entries report {@code false}.
+   */
+  public boolean[] bindWindow(int[] viewTags, int[] indices, int[] roles) {
+    UiThreadUtil.assertOnUiThread();
+    final int size = viewTags.length;
+    boolean[] results = new boolean[size];
+    int anchor = currentIndex;
+    for (int i = 0; i < size; i++) {
+      if (roles[i] == ROLE_BIND) {
+        results[i] = bindVideoViewInternal(viewTags[i], indices[i], false, true);
+        if (results[i]) {
+          anchor = indices[i];
+        }
+      }
+    }
+    final int center = anchor;
+    final int direction = preRenderWindow.getDirection();
+    Integer[] order = new Integer[size];
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (roles[i] == ROLE_PRE_BIND) {
+        order[count++] = i;
+      }
+    }
+    Arrays.sort(
+        order,
+        0,
+        count,
+        (a, b) -> Integer.compare(
+            preBindRank(indices[a], center, direction), preBindRank(indices[b], center, direction)));
+    for (int i = 0; i < count; i++) {
+      int entry = order[i];
+      results[entry] = bindVideoViewInternal(viewTags[entry], indices[entry], true, true);
+    }
+    return results;
+  }
+
+  /** Lower ranks pre-bind first: distance from {@code center}, ahead of the scroll breaking ties. */
+  private static int preBindRank(int index, int center, int direction) {
+    int diff = (index - center) * direction;
+    return Math.abs(diff) * 2 + (diff > 0 ? 0 : 1);
+  }
+
+  /** {@code fromJs} is false for binds the controller starts itself, e.g. on scroll settle. */
+  private boolean bindVideoViewInternal(
+      int viewTag, int index, boolean isPreBind, boolean fromJs) {
     if (!UiThreadUtil.isOnUiThread()) {
-      UiThreadUtil.runOnUiThread(() -> bindVideoViewInternal(viewTag, index, isPreBind));
+      UiThreadUtil.runOnUiThread(() -> bindVideoViewInternal(viewTag, index, isPreBind, fromJs));
       return true;
     }
+    ensureWarm();
     RNShortVideoItemView itemView = RNViewRegistry.get(viewTag);
     if (itemView == null) {
       TUIPlayerLog.e(TAG, "bindVideoView met a null view, viewTag:" + viewTag);
@@ -96,22 +775,98 @@ public class RNShortController implements TUIPlayerBridge {
       TUIPlayerLog.e(TAG, "bindVideoView failed, index outOfRange,index:" + index);
       return false;
     }
+    itemView.getVodController().setControllerEventFilter(eventFilter);
+    itemView.setOwner(controllerId, index, viewReleaseListener);
     TUIBaseVideoView videoView = (TUIBaseVideoView) itemView.getVideoItemView();
-    videoView.bindVideoModel(dataHolder.getSource(index));
+    TUIPlaySource source = dataHolder.getSource(index);
+    videoView.bindVideoModel(source);
     if (isPreBind) {
-      if (Math.abs(index - currentIndex) > 2) {
-        TUIPlayerLog.w(TAG, "skip preRender index:" + index + ", diff from current:" + currentIndex);
-      } else {
+      itemView.showPlaceholder(RNTransformer.sourceKey(source), coverUrlOf(source));
+      if (preRenderWindow.onPreBind(viewTag, index, currentIndex)) {
         manager.preRenderOnView(videoView);
+      } else {
+        TUIPlayerLog.v(TAG, "skip preRender index:" + index + ", current:" + currentIndex);
       }
     } else {
+      if (viewTag == currentViewTag && index == currentIndex && videoView.getController() != null) {
+        // Already started when the list settled on this index; JS still gets its bind event.
+        if (fromJs) {
+          itemView.getVodController().notifyBound();
+        }
+        return true;
+      }
+      itemView.showPlaceholder(RNTransformer.sourceKey(source), coverUrlOf(source));
       currentIndex = index;
+      currentViewTag = viewTag;
+      // An explicit bind supersedes the view remembered for re-binding after unpark().
+      rebindViewTag = -1;
+      preRenderWindow.onBind(viewTag);
       manager.bindVideoView(videoView);
       handlePlayerLoopMode(videoView);
+      applyModelWindow();
+      reconcilePreRenders();
+      prefetchCovers();
     }
     return true;
   }
 
+  @Nullable
+  private static String coverUrlOf(@Nullable TUIPlaySource source) {
+    return source instanceof TUIVideoSource
+        ? ((TUIVideoSource) source).getCoverPictureUrl()
+        : null;
+  }
+
+  /** Warms the cover cache for the items the user is heading to next. */
+  private void prefetchCovers() {
+    final int count = dataHolder.size();
+    final int direction = preRenderWindow.getDirection();
+    final int ahead = preRenderWindow.getAhead() + COVER_PREFETCH_EXTRA;
+    for (int step = 1; step <= ahead; step++) {
+      int index = currentIndex + step * direction;
+      if (index < 0 || index >= count) {
+        break;
+      }
+      RNCoverCache.prefetch(coverUrlOf(dataHolder.getSource(index)));
+    }
+    int behind = currentIndex - direction;
+    if (behind >= 0 && behind < count) {
+      RNCoverCache.prefetch(coverUrlOf(dataHolder.getSource(behind)));
+    }
+  }
+
+  private void applyModelWindow() {
+    if (!modelWindow.isEnabled()) {
+      return;
+    }
+    for (int index : modelWindow.collectEvictions(currentIndex)) {
+      if (index < dataHolder.size()) {
+        manager.replaceModel(RNModelWindow.stubOf(dataHolder.getSource(index)), index);
+      }
+    }
+    int[] range =
+        modelWindow.collectRequest(currentIndex, dataHolder.size(), SystemClock.uptimeMillis());
+    if (range != null) {
+      WritableMap params = TxplayerEventDispatcher.createParams();
+      params.putInt("controllerId", controllerId);
+      params.putInt("start", range[0]);
+      params.putInt("end", range[1]);
+      TxplayerEventDispatcher.emit(RNConstant.EVENT_MODELS_REQUESTED, params);
+    }
+    if (!requestRetryPosted && modelWindow.hasOutstandingRequests()) {
+      // Asks again even if the user stays put while an answer is lost.
+      requestRetryPosted = true;
+      UiThreadUtil.runOnUiThread(this::retryModelRequest, RNModelWindow.REQUEST_TIMEOUT_MS);
+    }
+  }
+
+  private void retryModelRequest() {
+    requestRetryPosted = false;
+    if (!released && !parked) {
+      applyModelWindow();
+    }
+  }
+
   private void handlePlayerLoopMode(@Nullable TUIBaseVideoView itemView) {
     if (itemView != null && itemView.getController() != null) {
       itemView.getController().setLoop(isLoop);
@@ -120,7 +875,7 @@ public class RNShortController implements TUIPlayerBridge {
 
   @Override
   public int getCurrentScrollState() {
-    return 0;
+    return scrollState;
   }
 
   @Override
@@ -129,10 +884,26 @@ public class RNShortController implements TUIPlayerBridge {
   }
 
   @Override
-  public void onCurrentPlayEnd() {}
+  public void onCurrentPlayEnd() {
+    // Paging is owned by the RN list; looping is applied per player in handlePlayerLoopMode.
+    TUIPlayerLog.v(TAG, "current play end, index:" + currentIndex);
+  }
 
   @Override
-  public void postHandlePlayCurrent(int i) {}
+  public void postHandlePlayCurrent(int index) {
+    // Posted rather than run inline so a JS bind already queued on the main thread goes first.
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          prunePreRenders();
+          int viewTag = preRenderWindow.viewTagAt(index);
+          if (viewTag == -1) {
+            changeCurPos(index);
+            return;
+          }
+          bindVideoViewInternal(viewTag, index, false, false);
+        },
+        0);
+  }
 
   @Override
   public void postOnMain(Runnable runnable) {
@@ -143,5 +914,9 @@ public class RNShortController implements TUIPlayerBridge {
   public void onVodPlayerReady(ITUIVodPlayer ituiVodPlayer, TUIVideoSource tuiVideoSource) {}
 
   @Override
-  public void changeCurPos(int i) {}
+  public void changeCurPos(int index) {
+    if (index >= 0 && index < dataHolder.size()) {
+      currentIndex = index;
+    }
+  }
 }
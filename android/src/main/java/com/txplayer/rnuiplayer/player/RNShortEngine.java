@@ -5,7 +5,9 @@ import android.content.Context;
 import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.ReactApplicationContext;
+import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
 import com.tencent.qcloud.tuiplayer.core.TUIPlayerCore;
 import com.tencent.qcloud.tuiplayer.core.tools.TUIPlayerLog;
 import com.txplayer.rnuiplayer.tools.RNTransformer;
@@ -22,9 +24,12 @@ public class RNShortEngine implements RNShortEngineObserver {
   private final ReactApplicationContext reactContext;
   private final AtomicInteger idProvider = new AtomicInteger(0);
   private final Map<Integer, RNShortController> controllers = new ConcurrentHashMap<>();
+  private final RNControllerParking parking = new RNControllerParking();
+  private final RNMemoryGovernor memoryGovernor = new RNMemoryGovernor(controllers.values());
 
   public RNShortEngine(ReactApplicationContext context) {
     this.reactContext = context;
+    context.registerComponentCallbacks(memoryGovernor);
   }
 
   public int createShortController() {
@@ -40,6 +45,106 @@ public class RNShortEngine implements RNShortEngineObserver {
     return controllers.get(controllerId);
   }
 
+  public WritableMap getModelStats() {
+    int total = 0;
+    int full = 0;
+    long stubbed = 0;
+    long requests = 0;
+    long expiredRequests = 0;
+    for (RNShortController controller : controllers.values()) {
+      RNModelWindow window = controller.getModelWindow();
+      int count = controller.getModelCount();
+      total += count;
+      full += window.isEnabled() ? window.getFullCount() : count;
+      stubbed += window.getStubbedCount();
+      requests += window.getRequestCount();
+      expiredRequests += window.getExpiredCount();
+    }
+    WritableMap stats = Arguments.createMap();
+    stats.putInt("total", total);
+    stats.putInt("full", full);
+    stats.putInt("stubs", total - full);
+    stats.putDouble("stubbed", stubbed);
+    stats.putDouble("requests", requests);
+    stats.putDouble("expiredRequests", expiredRequests);
+    return stats;
+  }
+
+  public WritableMap getPreRenderStats() {
+    int windowSize = 0;
+    long preRenders = 0;
+    long skipped = 0;
+    long cancelled = 0;
+    for (RNShortController controller : controllers.values()) {
+      RNPreRenderWindow window = controller.getPreRenderWindow();
+      windowSize = Math.max(windowSize, window.getSize());
+      preRenders += window.getPreRenderCount();
+      skipped += window.getSkippedCount();
+      cancelled += window.getCancelledCount();
+    }
+    WritableMap stats = Arguments.createMap();
+    stats.putInt("windowSize", windowSize);
+    stats.putDouble("preRenders", preRenders);
+    stats.putDouble("skipped", skipped);
+    stats.putDouble("cancelled", cancelled);
+    return stats;
+  }
+
+  /** Caps how many inactive controllers keep their players warm; the rest are parked. */
+  public void setMaxWarmControllers(int maxIdle) {
+    parking.setMaxIdle(maxIdle);
+  }
+
+  /** One preload memory budget in bytes shared by every controller; 0 disables it. */
+  public void setMemoryBudget(long bytes) {
+    memoryGovernor.setBudget(bytes);
+  }
+
+  public WritableMap getMemoryStats() {
+    return memoryGovernor.getStats();
+  }
+
+  public WritableMap getAdaptiveStats() {
+    int adaptive = 0;
+    int low = 0;
+    int high = 0;
+    long samples = 0;
+    long changes = 0;
+    double speed = 0;
+    for (RNShortController controller : controllers.values()) {
+      if (!controller.isAdaptiveEnabled()) {
+        continue;
+      }
+      RNAdaptiveStrategy strategy = controller.getAdaptiveStrategy();
+      adaptive++;
+      int tier = strategy.getTier();
+      if (tier == RNAdaptiveStrategy.TIER_LOW) {
+        low++;
+      } else if (tier == RNAdaptiveStrategy.TIER_HIGH) {
+        high++;
+      }
+      samples += strategy.getSampleCount();
+      changes += strategy.getChangeCount();
+      speed = Math.max(speed, strategy.getSpeedKBps());
+    }
+    WritableMap stats = Arguments.createMap();
+    stats.putInt("controllers", adaptive);
+    stats.putInt("lowTier", low);
+    stats.putInt("highTier", high);
+    stats.putDouble("speedKBps", speed);
+    stats.putDouble("samples", samples);
+    stats.putDouble("tierChanges", changes);
+    return stats;
+  }
+
+  public WritableMap getParkingStats() {
+    return parking.getStats();
+  }
+
+  public void dispose() {
+    reactContext.unregisterComponentCallbacks(memoryGovernor);
+  }
+
   public void setConfig(ReadableMap map) {
     TUIPlayerLog.i(TAG, "set player config");
     TUIPlayerCore.init(reactContext, RNTransformer.transformToConfig(map));
@@ -53,6 +158,25 @@ public class RNShortEngine implements RNShortEngineObserver {
   @Override
   public void onRelease(int controllerId) {
     controllers.remove(controllerId);
+    parking.onReleased(controllerId);
+    memoryGovernor.rebalance();
+  }
+
+  @Override
+  public void onActivated(RNShortController controller, boolean warm) {
+    parking.onActivated(controller, warm);
+    memoryGovernor.rebalance();
+  }
+
+  @Override
+  public void onDeactivated(RNShortController controller) {
+    parking.onDeactivated(controller);
+    memoryGovernor.rebalance();
+  }
+
+  @Override
+  public void onStrategyChanged(RNShortController controller) {
+    memoryGovernor.rebalance();
   }
 
   private static void setAppInfoReflectively(long appId, int authId, int srId) {
@@ -2,4 +2,10 @@ package com.txplayer.rnuiplayer.player;
 
 public interface RNShortEngineObserver {
   void onRelease(int controllerId);
+
+  void onActivated(RNShortController controller, boolean warm);
+
+  void onDeactivated(RNShortController controller);
+
+  void onStrategyChanged(RNShortController controller);
 }
@@ -0,0 +1,47 @@
+package com.txplayer.rnuiplayer.player.event;
+
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Allow- or deny-list of SDK event codes, checked before any play-event payload is built. */
+public final class RNEventCodeFilter {
+
+  public static final int MODE_NONE = 0;
+  public static final int MODE_ALLOW = 1;
+  public static final int MODE_DENY = 2;
+
+  private static final AtomicLong filtered = new AtomicLong();
+
+  private volatile int mode = MODE_NONE;
+  private volatile int[] codes = new int[0];
+
+  public void update(int filterMode, @Nullable int[] eventCodes) {
+    int[] sorted = eventCodes != null ? eventCodes.clone() : new int[0];
+    Arrays.sort(sorted);
+    codes = sorted;
+    mode = filterMode == MODE_ALLOW || filterMode == MODE_DENY ? filterMode : MODE_NONE;
+  }
+
+  public boolean isActive() {
+    return mode != MODE_NONE;
+  }
+
+  public boolean accepts(int event) {
+    int currentMode = mode;
+    if (currentMode == MODE_NONE) {
+      return true;
+    }
+    boolean listed = Arrays.binarySearch(codes, event) >= 0;
+    boolean accepted = currentMode == MODE_ALLOW ? listed : !listed;
+    if (!accepted) {
+      filtered.incrementAndGet();
+    }
+    return accepted;
+  }
+
+  public static long getFilteredCount() {
+    return filtered.get();
+  }
+}
@@ -0,0 +1,77 @@
+package com.txplayer.rnuiplayer.player.event;
+
+import android.os.SystemClock;
+
+/**
+ * Immutable playback state published by {@link RNVodController} for synchronous reads from JS.
+ * The position is extrapolated from the last progress callback while playing, so readers never
+ * touch the player. It holds still while the player is buffering, so a stall does not run the
+ * position ahead of the video.
+ */
+final class RNPlaybackSnapshot {
+
+  static final RNPlaybackSnapshot EMPTY = new RNPlaybackSnapshot(0, 0, false, false, 1f, 0);
+
+  final long positionMs;
+  final long durationMs;
+  final boolean playing;
+  final boolean buffering;
+  final float rate;
+  /** {@link SystemClock#uptimeMillis()} when {@link #positionMs} was taken. */
+  final long updatedAt;
+
+  private RNPlaybackSnapshot(
+      long positionMs,
+      long durationMs,
+      boolean playing,
+      boolean buffering,
+      float rate,
+      long updatedAt) {
+    this.positionMs = positionMs;
+    this.durationMs = durationMs;
+    this.playing = playing;
+    this.buffering = buffering;
+    this.rate = rate;
+    this.updatedAt = updatedAt;
+  }
+
+  long positionAt(long now) {
+    if (!playing || buffering || updatedAt == 0) {
+      return positionMs;
+    }
+    long position = positionMs + (long) ((now - updatedAt) * rate);
+    return durationMs > 0 ? Math.min(position, durationMs) : position;
+  }
+
+  RNPlaybackSnapshot withProgress(long position, long duration) {
+    return new RNPlaybackSnapshot(
+        position, duration, playing, buffering, rate, SystemClock.uptimeMillis());
+  }
+
+  RNPlaybackSnapshot withPosition(long position) {
+    return new RNPlaybackSnapshot(
+        position, durationMs, playing, buffering, rate, SystemClock.uptimeMillis());
+  }
+
+  RNPlaybackSnapshot withPlaying(boolean isPlaying) {
+    if (isPlaying == playing) {
+      return this;
+    }
+    long now = SystemClock.uptimeMillis();
+    return new RNPlaybackSnapshot(positionAt(now), durationMs, isPlaying, buffering, rate, now);
+  }
+
+  /** Freezes the position at {@code now} while buffering and resumes extrapolating after. */
+  RNPlaybackSnapshot withBuffering(boolean isBuffering) {
+    if (isBuffering == buffering) {
+      return this;
+    }
+    long now = SystemClock.uptimeMillis();
+    return new RNPlaybackSnapshot(positionAt(now), durationMs, playing, isBuffering, rate, now);
+  }
+
+  RNPlaybackSnapshot withRate(float newRate) {
+    long now = SystemClock.uptimeMillis();
+    return new RNPlaybackSnapshot(positionAt(now), durationMs, playing, buffering, newRate, now);
+  }
+}
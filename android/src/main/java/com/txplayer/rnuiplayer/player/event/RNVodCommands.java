@@ -0,0 +1,140 @@
+package com.txplayer.rnuiplayer.player.event;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.txplayer.rnuiplayer.tools.RNTransformer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies a batch of vod commands to one {@link RNVodController} in a single pass. Commands run in
+ * order; a failing command is reported in its result and does not stop the ones after it. The
+ * whole batch is imported with one {@code toArrayList()} call instead of a JNI read per field.
+ */
+public final class RNVodCommands {
+
+  public static final String OP_START_PLAY = "startPlay";
+  public static final String OP_PAUSE = "pause";
+  public static final String OP_RESUME = "resume";
+  public static final String OP_SEEK_TO = "seekTo";
+  public static final String OP_SET_RATE = "setRate";
+  public static final String OP_SET_MUTE = "setMute";
+  public static final String OP_SET_MIRROR = "setMirror";
+  public static final String OP_SET_RENDER_MODE = "setRenderMode";
+  public static final String OP_SET_STRING_OPTION = "setStringOption";
+  public static final String OP_SELECT_SUBTITLE = "selectSubtitle";
+  public static final String OP_SWITCH_RESOLUTION = "switchResolution";
+  public static final String OP_GET_DURATION = "getDuration";
+  public static final String OP_GET_CURRENT_PLAY_TIME = "getCurrentPlayTime";
+  public static final String OP_IS_PLAYING = "isPlaying";
+
+  private RNVodCommands() {}
+
+  public static WritableArray execute(RNVodController controller, ReadableArray commands) {
+    List<Object> items = commands.toArrayList();
+    WritableArray results = Arguments.createArray();
+    for (Object item : items) {
+      WritableMap result = Arguments.createMap();
+      try {
+        if (!(item instanceof Map)) {
+          throw new IllegalArgumentException("command must be an object");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> command = (Map<String, Object>) item;
+        apply(controller, command, result);
+        result.putBoolean("ok", true);
+      } catch (Exception e) {
+        result.putBoolean("ok", false);
+        result.putString("error", e.getMessage() != null ? e.getMessage() : e.toString());
+      }
+      results.pushMap(result);
+    }
+    return results;
+  }
+
+  private static void apply(
+      RNVodController controller, Map<String, Object> command, WritableMap result) {
+    Object op = command.get("op");
+    if (!(op instanceof String)) {
+      throw new IllegalArgumentException("missing op");
+    }
+    switch ((String) op) {
+      case OP_START_PLAY:
+        Object source = command.get("source");
+        if (!(source instanceof Map)) {
+          throw new IllegalArgumentException("startPlay needs a source");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> sourceMap = (Map<String, Object>) source;
+        controller.startPlay(RNTransformer.transformVideoSource(sourceMap));
+        break;
+      case OP_PAUSE:
+        controller.pause();
+        break;
+      case OP_RESUME:
+        controller.resume();
+        break;
+      case OP_SEEK_TO:
+        controller.seekTo(number(command, "value"));
+        break;
+      case OP_SET_RATE:
+        controller.setRate(number(command, "value"));
+        break;
+      case OP_SET_MUTE:
+        controller.setMute(flag(command));
+        break;
+      case OP_SET_MIRROR:
+        controller.setMirror(flag(command));
+        break;
+      case OP_SET_RENDER_MODE:
+        controller.setRenderMode((int) number(command, "value"));
+        break;
+      case OP_SET_STRING_OPTION:
+        Object text = command.get("text");
+        controller.setStringOption(text != null ? text.toString() : "", command.get("key"));
+        break;
+      case OP_SELECT_SUBTITLE:
+        controller.selectSubtitleTrack((int) number(command, "value"));
+        break;
+      case OP_SWITCH_RESOLUTION:
+        controller.switchResolution(
+            (long) number(command, "value"), (int) optNumber(command, "switchType", 0));
+        break;
+      case OP_GET_DURATION:
+        result.putDouble("value", controller.getDuration());
+        break;
+      case OP_GET_CURRENT_PLAY_TIME:
+        result.putDouble("value", controller.getCurrentPlayTime());
+        break;
+      case OP_IS_PLAYING:
+        result.putBoolean("flag", controller.isPlaying());
+        break;
+      default:
+        throw new IllegalArgumentException("unknown op: " + op);
+    }
+  }
+
+  private static double number(Map<String, Object> command, String key) {
+    Object value = command.get(key);
+    if (!(value instanceof Number)) {
+      throw new IllegalArgumentException(command.get("op") + " needs a numeric " + key);
+    }
+    return ((Number) value).doubleValue();
+  }
+
+  private static double optNumber(Map<String, Object> command, String key, double fallback) {
+    Object value = command.get(key);
+    return value instanceof Number ? ((Number) value).doubleValue() : fallback;
+  }
+
+  private static boolean flag(Map<String, Object> command) {
+    Object value = command.get("flag");
+    if (!(value instanceof Boolean)) {
+      throw new IllegalArgumentException(command.get("op") + " needs a boolean flag");
+    }
+    return (Boolean) value;
+  }
+}
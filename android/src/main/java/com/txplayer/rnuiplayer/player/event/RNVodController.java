@@ -1,6 +1,7 @@
 package com.txplayer.rnuiplayer.player.event;
 
 import android.os.Bundle;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -21,7 +22,10 @@ import com.tencent.qcloud.tuiplayer.core.api.ui.view.vod.TUIVodViewListener;
 import com.tencent.qcloud.tuiplayer.shortvideo.ui.view.TUIShortVideoItemView;
 import com.txplayer.rnuiplayer.common.RNConstant;
 import com.txplayer.rnuiplayer.common.TxplayerEventDispatcher;
-import com.txplayer.rnuiplayer.tools.RNUtils;
+import com.txplayer.rnuiplayer.tools.RNEventPayload;
+import com.txplayer.rnuiplayer.tools.RNTransformer;
+import com.txplayer.rnuiplayer.tools.RNVideoSizeCache;
+import com.txplayer.rnuiplayer.view.RNEventRegistry;
 import com.txplayer.rnuiplayer.view.RNShortVideoItemView;
 import com.tencent.rtmp.TXTrackInfo;
 import com.tencent.rtmp.ui.TXSubtitleView;
@@ -29,7 +33,7 @@ import com.tencent.rtmp.ui.TXSubtitleView;
 import java.util.List;
 import java.util.Collections;
 import java.util.ArrayList;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class RNVodController
     implements TUIVodViewListener, TUIVodObserver {
@@ -45,9 +49,18 @@ public class RNVodController
   private final List<TXTrackInfo> lastSubtitleTracks = new ArrayList<>();
   private int selectedSubtitleTrack = -1;
   private int currentRenderMode = RENDER_MODE_FIT;
+  private final AtomicReference<RNPlaybackSnapshot> snapshot =
+      new AtomicReference<>(RNPlaybackSnapshot.EMPTY);
   private int videoWidth = 0;
   private int videoHeight = 0;
-  private int sizeRetryCount = 0;
+  private volatile int progressIntervalMs = 0;
+  private volatile int progressMinDeltaMs = 0;
+  private volatile boolean progressActive = false;
+  private long lastProgressAt = 0;
+  private long lastProgressPosition = -1;
+  private long lastProgressDuration = -1;
+  private final RNEventCodeFilter viewEventFilter = new RNEventCodeFilter();
+  @Nullable private volatile RNEventCodeFilter controllerEventFilter;
 
   public RNVodController(ReactContext context, RNShortVideoItemView parentView) {
     this.reactContext = context;
@@ -58,15 +71,44 @@ public class RNVodController
     return parentView.getId();
   }
 
-  private void emitEvent(String eventName, @Nullable Map<String, Object> payload) {
+  private boolean hasListener(String eventName) {
+    return RNEventRegistry.hasListener(getViewTag(), eventName);
+  }
+
+  private void emitEvent(String eventName) {
+    if (!hasListener(eventName)) {
+      return;
+    }
     WritableMap params = TxplayerEventDispatcher.createParams();
     params.putInt("viewTag", getViewTag());
-    if (payload != null) {
-      params.putMap("event", Arguments.makeNativeMap(payload));
-    }
     TxplayerEventDispatcher.emit(eventName, params);
   }
 
+  /** Repeats the bind event for a JS bind that found the view already bound and playing. */
+  public void notifyBound() {
+    if (controller != null) {
+      emitEvent(RNConstant.EVENT_CONTROLLER_BIND);
+    }
+  }
+
+  private boolean acceptsEvent(int event) {
+    if (viewEventFilter.isActive()) {
+      return viewEventFilter.accepts(event);
+    }
+    RNEventCodeFilter filter = controllerEventFilter;
+    return filter == null || filter.accepts(event);
+  }
+
+  private void emitPlayEvent(int event, @Nullable Bundle bundle, long coalesceKey) {
+    if (!acceptsEvent(event) || !hasListener(RNConstant.EVENT_PLAY_EVENT)) {
+      return;
+    }
+    WritableMap params = TxplayerEventDispatcher.createParams();
+    params.putInt("viewTag", getViewTag());
+    params.putMap("event", RNEventPayload.create(event, bundle));
+    TxplayerEventDispatcher.emit(RNConstant.EVENT_PLAY_EVENT, params, coalesceKey);
+  }
+
   @Override
   public void onControllerPlayerAttached(TUIPlayerController tuiPlayerController) {}
 
@@ -74,15 +116,17 @@ public class RNVodController
   public void onPlayerControllerBind(TUIPlayerController playerController) {
     controller = playerController;
     controller.addPlayerObserver(this);
-    videoWidth = 0;
-    videoHeight = 0;
-    sizeRetryCount = 0;
+    snapshot.set(RNPlaybackSnapshot.EMPTY);
+    applyCachedVideoSize();
     applyRenderMode(currentRenderMode);
-    emitEvent(RNConstant.EVENT_CONTROLLER_BIND, null);
+    parentView.onControllerBound();
+    emitEvent(RNConstant.EVENT_CONTROLLER_BIND);
   }
 
   @Override
   public void onPlayerControllerUnBind(TUIPlayerController playerController) {
+    parentView.captureSnapshot(RNTransformer.sourceKey(curSource));
+    detachSubtitleView(playerController);
     if (playerController != null) {
       try {
         playerController.removePlayerObserver(this);
@@ -94,14 +138,19 @@ public class RNVodController
     lastSubtitleTracks.clear();
     selectedSubtitleTrack = -1;
     parentView.hideSubtitleLayer();
+    videoWidth = 0;
+    videoHeight = 0;
     parentView.resetVideoSize();
-    sizeRetryCount = 0;
-    emitEvent(RNConstant.EVENT_CONTROLLER_UNBIND, null);
+    stopProgress();
+    snapshot.set(RNPlaybackSnapshot.EMPTY);
+    parentView.onControllerUnbound();
+    emitEvent(RNConstant.EVENT_CONTROLLER_UNBIND);
   }
 
   @Override
   public void onBindData(TUIVideoSource tuiVideoSource) {
     curSource = tuiVideoSource;
+    applyCachedVideoSize();
   }
 
   @Override
@@ -137,17 +186,44 @@ public class RNVodController
     if (controller != null) {
       controller.pause();
     }
+    stopProgress();
+    snapshot.updateAndGet(state -> state.withPlaying(false));
   }
 
   public void resume() {
     if (controller != null) {
       controller.resume();
+      progressActive = true;
+      snapshot.updateAndGet(state -> state.withPlaying(true));
     }
   }
 
+  /** View-level event code filter; takes precedence over the short controller's filter. */
+  public void setEventFilter(int mode, @Nullable int[] codes) {
+    viewEventFilter.update(mode, codes);
+  }
+
+  public void setControllerEventFilter(@Nullable RNEventCodeFilter filter) {
+    controllerEventFilter = filter;
+  }
+
+  /**
+   * Enables the {@link RNConstant#EVENT_PLAY_PROGRESS} stream for this view. {@code intervalMs}
+   * of 0 disables it; updates moving less than {@code minDeltaMs} are dropped.
+   */
+  public void setProgressConfig(int intervalMs, int minDeltaMs) {
+    progressMinDeltaMs = Math.max(0, minDeltaMs);
+    progressIntervalMs = Math.max(0, intervalMs);
+    lastProgressAt = 0;
+    lastProgressPosition = -1;
+    lastProgressDuration = -1;
+    progressActive = isPlaying();
+  }
+
   public void setRate(double rate) {
     if (controller != null && controller.getPlayer() instanceof ITUIVodPlayer) {
       ((ITUIVodPlayer) controller.getPlayer()).setRate((float) rate);
+      snapshot.updateAndGet(state -> state.withRate((float) rate));
     }
   }
 
@@ -191,6 +267,7 @@ public class RNVodController
   public void seekTo(double time) {
     if (controller != null) {
       controller.seekTo((float) time);
+      snapshot.updateAndGet(state -> state.withPosition((long) (time * 1000)));
     }
   }
 
@@ -218,8 +295,22 @@ public class RNVodController
     return controller != null && controller.isPlaying();
   }
 
+  /** Lock-free read of the published state in seconds; never touches the player. */
+  public double getSnapshotPlayTime() {
+    return snapshot.get().positionAt(SystemClock.uptimeMillis()) / 1000.0;
+  }
+
+  public double getSnapshotDuration() {
+    return snapshot.get().durationMs / 1000.0;
+  }
+
+  public boolean isSnapshotPlaying() {
+    return snapshot.get().playing;
+  }
+
   public void release() {
     onShortVideoDestroyedInternal();
+    detachSubtitleView(controller);
     if (controller != null) {
       try {
         controller.removePlayerObserver(this);
@@ -236,14 +327,30 @@ public class RNVodController
     }
     parentView.hideSubtitleLayer();
     parentView.resetVideoSize();
-    sizeRetryCount = 0;
+    stopProgress();
+    snapshot.set(RNPlaybackSnapshot.EMPTY);
+  }
+
+  /** Clears per-view configuration as well, so a pooled view starts like a new one. */
+  public void resetForReuse() {
+    release();
+    viewEventFilter.update(RNEventCodeFilter.MODE_NONE, null);
+    controllerEventFilter = null;
+    progressIntervalMs = 0;
+    progressMinDeltaMs = 0;
+    currentRenderMode = RENDER_MODE_FIT;
   }
 
   @Override
   public void onPlayEvent(ITUIVodPlayer player, int event, Bundle bundle) {
-    Map<String, Object> payload = RNUtils.getParams(event, bundle);
-    maybeUpdateVideoSize(bundle);
-    emitEvent(RNConstant.EVENT_PLAY_EVENT, payload);
+    if (event == RNConstant.PLAY_EVT_CHANGE_RESOLUTION) {
+      updateSizeFromEvent(bundle);
+    }
+    long coalesceKey =
+        RNConstant.isCoalescablePlayEvent(event)
+            ? TxplayerEventDispatcher.coalesceKey(getViewTag(), event)
+            : TxplayerEventDispatcher.NO_COALESCE_KEY;
+    emitPlayEvent(event, bundle, coalesceKey);
   }
 
   @Override
@@ -251,7 +358,8 @@ public class RNVodController
 
   @Override
   public void onPlayBegin() {
-    updateSizeFromPlayer();
+    progressActive = true;
+    snapshot.updateAndGet(state -> state.withPlaying(true).withBuffering(false));
     if (!lastSubtitleTracks.isEmpty()) {
       parentView.post(
           () -> {
@@ -262,11 +370,13 @@ public class RNVodController
   }
 
   @Override
-  public void onPlayLoading() {}
+  public void onPlayLoading() {
+    snapshot.updateAndGet(state -> state.withBuffering(true));
+  }
 
   @Override
   public void onPlayLoadingEnd() {
-    updateSizeFromPlayer();
+    snapshot.updateAndGet(state -> state.withBuffering(false));
     if (!lastSubtitleTracks.isEmpty() && selectedSubtitleTrack >= 0) {
       parentView.post(
           () -> attachSubtitleTrackInternal(selectedSubtitleTrack));
@@ -275,15 +385,42 @@ public class RNVodController
   }
 
   @Override
-  public void onPlayProgress(long l, long l1, long l2) {}
+  public void onPlayProgress(long current, long duration, long playable) {
+    snapshot.updateAndGet(state -> state.withProgress(current, duration));
+    if (progressIntervalMs <= 0 || !progressActive) {
+      return;
+    }
+    long now = SystemClock.uptimeMillis();
+    if (now - lastProgressAt < progressIntervalMs) {
+      return;
+    }
+    if (duration == lastProgressDuration
+        && Math.abs(current - lastProgressPosition) < progressMinDeltaMs) {
+      return;
+    }
+    if (!hasListener(RNConstant.EVENT_PLAY_PROGRESS)) {
+      return;
+    }
+    lastProgressAt = now;
+    lastProgressPosition = current;
+    lastProgressDuration = duration;
+    WritableMap params = TxplayerEventDispatcher.createParams();
+    params.putInt("viewTag", getViewTag());
+    params.putDouble("position", current / 1000.0);
+    params.putDouble("duration", duration / 1000.0);
+    params.putDouble("buffered", playable / 1000.0);
+    TxplayerEventDispatcher.emit(
+        RNConstant.EVENT_PLAY_PROGRESS,
+        params,
+        TxplayerEventDispatcher.coalesceKey(getViewTag(), RNConstant.PROGRESS_STREAM_CODE));
+  }
 
   @Override
   public void onSeek(float v) {}
 
   @Override
   public void onError(int i, String s, Bundle bundle) {
-    Map<String, Object> payload = RNUtils.getParams(i, bundle);
-    emitEvent(RNConstant.EVENT_PLAY_EVENT, payload);
+    emitPlayEvent(i, bundle, TxplayerEventDispatcher.NO_COALESCE_KEY);
   }
 
   @Override
@@ -321,14 +458,14 @@ public class RNVodController
 
   @Override
   public void onResolutionChanged(long width, long height) {
-    if (width > 0 && height > 0) {
-      parentView.updateVideoSize((int) width, (int) height);
-    }
+    applyVideoSize((int) width, (int) height);
   }
 
   @Override
   public void onFirstFrameRendered() {
-    updateSizeFromPlayer();
+    String sourceKey = RNTransformer.sourceKey(curSource);
+    parentView.post(() -> parentView.onFirstFrameRendered(sourceKey));
+    readSizeFromPlayer();
     if (controller != null
         && controller.getPlayer() != null
         && !lastSubtitleTracks.isEmpty()
@@ -336,22 +473,30 @@ public class RNVodController
       parentView.post(() -> attachSubtitleTrackInternal(selectedSubtitleTrack));
     }
     applyRenderMode(currentRenderMode);
-    emitEvent(
-        RNConstant.EVENT_PLAY_EVENT,
-        RNUtils.getParams(RNConstant.PLAY_EVT_FIRST_FRAME_RENDERED, new Bundle()));
+    emitPlayEvent(
+        RNConstant.PLAY_EVT_FIRST_FRAME_RENDERED, null, TxplayerEventDispatcher.NO_COALESCE_KEY);
   }
 
   @Override
-  public void onPlayEnd() {}
+  public void onPlayEnd() {
+    stopProgress();
+    snapshot.updateAndGet(state -> state.withPlaying(false));
+  }
 
   @Override
   public void onRetryConnect(int i, Bundle bundle) {}
 
   @Override
-  public void onPlayPause() {}
+  public void onPlayPause() {
+    stopProgress();
+    snapshot.updateAndGet(state -> state.withPlaying(false));
+  }
 
   @Override
-  public void onPlayStop() {}
+  public void onPlayStop() {
+    stopProgress();
+    snapshot.updateAndGet(state -> state.withPlaying(false));
+  }
 
   public void selectSubtitleTrack(int trackIndex) {
     if (controller == null || controller.getPlayer() == null) {
@@ -376,14 +521,32 @@ public class RNVodController
       player.setSubtitleView(null);
       parentView.hideSubtitleLayer();
     } else {
-      TXSubtitleView subtitleView = parentView.getSubtitleView();
+      TXSubtitleView subtitleView = parentView.obtainSubtitleView();
       player.setSubtitleView(subtitleView);
       player.selectTrack(trackIndex);
       parentView.showSubtitleLayer();
     }
   }
 
+  /** Keeps the player from drawing into this view's subtitle layer after it moved on. */
+  private void detachSubtitleView(@Nullable TUIPlayerController playerController) {
+    if (selectedSubtitleTrack < 0 || !parentView.hasSubtitleView() || playerController == null) {
+      return;
+    }
+    if (playerController.getPlayer() instanceof ITUIVodPlayer) {
+      ((ITUIVodPlayer) playerController.getPlayer()).setSubtitleView(null);
+    }
+  }
+
+  private void stopProgress() {
+    progressActive = false;
+    lastProgressPosition = -1;
+  }
+
   private void emitSubtitleTracks(List<TXTrackInfo> tracks) {
+    if (!hasListener(RNConstant.EVENT_SUBTITLE_TRACKS)) {
+      return;
+    }
     WritableMap params = TxplayerEventDispatcher.createParams();
     params.putInt("viewTag", getViewTag());
     WritableArray trackArray = Arguments.createArray();
@@ -414,7 +577,7 @@ public class RNVodController
     parentView.applyCurrentResizeMode();
   }
 
-  private void maybeUpdateVideoSize(@Nullable Bundle bundle) {
+  private void updateSizeFromEvent(@Nullable Bundle bundle) {
     if (bundle == null) {
       return;
     }
@@ -436,31 +599,36 @@ public class RNVodController
       height = (int) Math.round(h);
     }
     if (width > 0 && height > 0) {
-      videoWidth = width;
-      videoHeight = height;
-      parentView.updateVideoSize(width, height);
+      applyVideoSize(width, height);
     } else {
-      updateSizeFromPlayer();
+      readSizeFromPlayer();
     }
   }
 
-  private void updateSizeFromPlayer() {
+  /** One read, no retry: the size is known by the time resolution or first-frame events fire. */
+  private void readSizeFromPlayer() {
     if (controller == null || !(controller.getPlayer() instanceof ITUIVodPlayer)) {
       return;
     }
     ITUIVodPlayer player = (ITUIVodPlayer) controller.getPlayer();
-    int w = player.getWidth();
-    int h = player.getHeight();
-    if (w > 0 && h > 0 && (w != videoWidth || h != videoHeight)) {
-      videoWidth = w;
-      videoHeight = h;
-      parentView.updateVideoSize(w, h);
-      sizeRetryCount = 0;
-    } else {
-      if (sizeRetryCount < 10) {
-        sizeRetryCount++;
-        parentView.postDelayed(this::updateSizeFromPlayer, 100);
-      }
+    applyVideoSize(player.getWidth(), player.getHeight());
+  }
+
+  /** Lays out a re-bound source with the size it had last time, before its first frame. */
+  private void applyCachedVideoSize() {
+    long size = RNVideoSizeCache.get(RNTransformer.sourceKey(curSource));
+    if (size != 0) {
+      applyVideoSize(RNVideoSizeCache.widthOf(size), RNVideoSizeCache.heightOf(size));
+    }
+  }
+
+  private void applyVideoSize(int width, int height) {
+    if (width <= 0 || height <= 0 || (width == videoWidth && height == videoHeight)) {
+      return;
     }
+    videoWidth = width;
+    videoHeight = height;
+    RNVideoSizeCache.put(RNTransformer.sourceKey(curSource), width, height);
+    parentView.updateVideoSize(width, height);
   }
 }
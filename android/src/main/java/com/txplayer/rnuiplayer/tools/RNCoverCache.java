@@ -0,0 +1,320 @@
+package com.txplayer.rnuiplayer.tools;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+import android.util.LruCache;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.tencent.qcloud.tuiplayer.core.tools.TUIPlayerLog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two-tier cover cache: decoded bitmaps in a byte-bounded LRU, encoded bytes on disk under the
+ * app cache directory. Loads for the same url are coalesced, callbacks run on the main thread.
+ */
+public final class RNCoverCache {
+
+  private static final String TAG = "RNCoverCache";
+
+  public interface Callback {
+    void onCoverLoaded(String url, @Nullable Bitmap bitmap);
+  }
+
+  private static final String DISK_DIR = "txplayer-covers";
+  private static final long DISK_MAX_BYTES = 50L * 1024L * 1024L;
+  private static final int MEMORY_MAX_BYTES =
+      (int) Math.min(32L * 1024L * 1024L, Runtime.getRuntime().maxMemory() / 16);
+  private static final int TIMEOUT_MS = 10_000;
+
+  private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+  private static final ExecutorService LOAD_POOL =
+      Executors.newFixedThreadPool(2, new RNThreadFactory("txplayer-cover"));
+
+  private static final LruCache<String, Bitmap> MEMORY =
+      new LruCache<String, Bitmap>(MEMORY_MAX_BYTES) {
+        @Override
+        protected int sizeOf(String key, Bitmap value) {
+          return value.getByteCount();
+        }
+      };
+  private static final Map<String, List<Callback>> IN_FLIGHT = new HashMap<>();
+
+  private static final AtomicLong memoryHits = new AtomicLong();
+  private static final AtomicLong diskHits = new AtomicLong();
+  private static final AtomicLong networkLoads = new AtomicLong();
+  private static final AtomicLong failures = new AtomicLong();
+
+  @Nullable private static volatile File diskDir;
+  private static volatile int maxDimension = 1080;
+
+  private RNCoverCache() {}
+
+  public static void init(Context context) {
+    diskDir = new File(context.getCacheDir(), DISK_DIR);
+    int width = context.getResources().getDisplayMetrics().widthPixels;
+    if (width > 0) {
+      maxDimension = width;
+    }
+  }
+
+  /** Memory tier only; safe to call on the main thread. */
+  @Nullable
+  public static Bitmap get(@Nullable String url) {
+    if (TextUtils.isEmpty(url)) {
+      return null;
+    }
+    Bitmap bitmap = MEMORY.get(url);
+    if (bitmap != null) {
+      memoryHits.incrementAndGet();
+    }
+    return bitmap;
+  }
+
+  public static void prefetch(@Nullable String url) {
+    load(url, null);
+  }
+
+  public static void load(@Nullable String url, @Nullable Callback callback) {
+    if (TextUtils.isEmpty(url)) {
+      return;
+    }
+    Bitmap cached = MEMORY.get(url);
+    if (cached != null) {
+      if (callback != null) {
+        memoryHits.incrementAndGet();
+        callback.onCoverLoaded(url, cached);
+      }
+      return;
+    }
+    synchronized (IN_FLIGHT) {
+      List<Callback> waiting = IN_FLIGHT.get(url);
+      if (waiting != null) {
+        if (callback != null) {
+          waiting.add(callback);
+        }
+        return;
+      }
+      waiting = new ArrayList<>(1);
+      if (callback != null) {
+        waiting.add(callback);
+      }
+      IN_FLIGHT.put(url, waiting);
+    }
+    LOAD_POOL.execute(() -> deliver(url, loadBlocking(url)));
+  }
+
+  private static void deliver(String url, @Nullable Bitmap bitmap) {
+    List<Callback> waiting;
+    synchronized (IN_FLIGHT) {
+      waiting = IN_FLIGHT.remove(url);
+    }
+    if (waiting == null || waiting.isEmpty()) {
+      return;
+    }
+    MAIN_HANDLER.post(
+        () -> {
+          for (Callback callback : waiting) {
+            callback.onCoverLoaded(url, bitmap);
+          }
+        });
+  }
+
+  @Nullable
+  private static Bitmap loadBlocking(String url) {
+    File file = diskFile(url);
+    byte[] bytes = null;
+    if (file != null && file.isFile()) {
+      bytes = readFile(file);
+      if (bytes != null) {
+        diskHits.incrementAndGet();
+        file.setLastModified(System.currentTimeMillis());
+      }
+    }
+    if (bytes == null) {
+      bytes = download(url);
+      if (bytes == null) {
+        failures.incrementAndGet();
+        return null;
+      }
+      networkLoads.incrementAndGet();
+      if (file != null) {
+        writeFile(file, bytes);
+      }
+    }
+    Bitmap bitmap = decode(bytes);
+    if (bitmap == null) {
+      failures.incrementAndGet();
+      return null;
+    }
+    MEMORY.put(url, bitmap);
+    return bitmap;
+  }
+
+  @Nullable
+  private static Bitmap decode(byte[] bytes) {
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    BitmapFactory.decodeByteArray(bytes, 0, bytes.length, options);
+    int sampleSize = 1;
+    int largest = Math.max(options.outWidth, options.outHeight);
+    while (largest / (sampleSize * 2) >= maxDimension) {
+      sampleSize *= 2;
+    }
+    options.inJustDecodeBounds = false;
+    options.inSampleSize = sampleSize;
+    options.inPreferredConfig = Bitmap.Config.RGB_565;
+    return BitmapFactory.decodeByteArray(bytes, 0, bytes.length, options);
+  }
+
+  @Nullable
+  private static byte[] download(String url) {
+    HttpURLConnection connection = null;
+    try {
+      connection = (HttpURLConnection) new URL(url).openConnection();
+      connection.setConnectTimeout(TIMEOUT_MS);
+      connection.setReadTimeout(TIMEOUT_MS);
+      if (connection.getResponseCode() / 100 != 2) {
+        return null;
+      }
+      try (InputStream input = connection.getInputStream()) {
+        return readAll(input);
+      }
+    } catch (IOException e) {
+      TUIPlayerLog.w(TAG, "cover download failed:" + url + ", " + e.getMessage());
+      return null;
+    } finally {
+      if (connection != null) {
+        connection.disconnect();
+      }
+    }
+  }
+
+  private static byte[] readAll(InputStream input) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      output.write(buffer, 0, read);
+    }
+    return output.toByteArray();
+  }
+
+  @Nullable
+  private static byte[] readFile(File file) {
+    try (InputStream input = new FileInputStream(file)) {
+      return readAll(input);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static void writeFile(File file, byte[] bytes) {
+    File dir = file.getParentFile();
+    if (dir == null || (!dir.isDirectory() && !dir.mkdirs())) {
+      return;
+    }
+    File temp = new File(dir, file.getName() + ".tmp");
+    try (FileOutputStream output = new FileOutputStream(temp)) {
+      output.write(bytes);
+    } catch (IOException e) {
+      temp.delete();
+      return;
+    }
+    if (temp.renameTo(file)) {
+      trimDisk(dir);
+    }
+  }
+
+  /** Drops the least recently used files once the directory outgrows {@link #DISK_MAX_BYTES}. */
+  private static synchronized void trimDisk(File dir) {
+    File[] files = dir.listFiles();
+    if (files == null) {
+      return;
+    }
+    long total = 0;
+    for (File file : files) {
+      total += file.length();
+    }
+    if (total <= DISK_MAX_BYTES) {
+      return;
+    }
+    Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+    for (File file : files) {
+      if (total <= DISK_MAX_BYTES * 3 / 4) {
+        break;
+      }
+      long length = file.length();
+      if (file.delete()) {
+        total -= length;
+      }
+    }
+  }
+
+  @Nullable
+  private static File diskFile(String url) {
+    File dir = diskDir;
+    if (dir == null) {
+      return null;
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("MD5");
+      byte[] hash = digest.digest(url.getBytes(StandardCharsets.UTF_8));
+      StringBuilder name = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        name.append(String.format("%02x", b));
+      }
+      return new File(dir, name.toString());
+    } catch (NoSuchAlgorithmException e) {
+      return null;
+    }
+  }
+
+  /** Releases decoded bitmaps under memory pressure; the disk tier is kept. */
+  public static void trimMemory(int level) {
+    if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE
+        || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+      MEMORY.evictAll();
+    } else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND
+        || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+      MEMORY.trimToSize(MEMORY.maxSize() / 2);
+    }
+  }
+
+  public static WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putDouble("memoryBytes", MEMORY.size());
+    stats.putDouble("memoryMaxBytes", MEMORY.maxSize());
+    stats.putDouble("memoryHits", memoryHits.get());
+    stats.putDouble("diskHits", diskHits.get());
+    stats.putDouble("networkLoads", networkLoads.get());
+    stats.putDouble("failures", failures.get());
+    return stats;
+  }
+}
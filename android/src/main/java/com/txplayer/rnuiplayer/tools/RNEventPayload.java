@@ -0,0 +1,164 @@
+package com.txplayer.rnuiplayer.tools;
+
+import android.os.Bundle;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds play-event payloads by writing the event code and Bundle values straight into the
+ * outgoing {@link WritableMap}, instead of going through {@link RNUtils#getParams} and
+ * {@code Arguments.makeNativeMap}.
+ *
+ * <p>Outgoing maps are consumed by the bridge, so they cannot be pooled; {@link #MODE_KNOWN_KEYS}
+ * is the leanest mode and reads only the interned keys below without walking the Bundle key set.
+ */
+public final class RNEventPayload {
+
+  /** Legacy path: HashMap via {@link RNUtils#getParams}, then copied into a native map. */
+  public static final int MODE_MAP = 0;
+  /** Typed writes of every Bundle entry into a single map. */
+  public static final int MODE_DIRECT = 1;
+  /** Typed writes of the known event keys only. */
+  public static final int MODE_KNOWN_KEYS = 2;
+
+  public static final String KEY_EVENT = "event";
+  public static final String EVT_UTC_TIME = "EVT_UTC_TIME";
+  public static final String EVT_BLOCK_DURATION = "EVT_BLOCK_DURATION";
+  public static final String EVT_TIME = "EVT_TIME";
+  public static final String EVT_MSG = "EVT_MSG";
+  public static final String EVT_PARAM1 = "EVT_PARAM1";
+  public static final String EVT_PARAM2 = "EVT_PARAM2";
+  public static final String EVT_WIDTH = "EVT_WIDTH";
+  public static final String EVT_HEIGHT = "EVT_HEIGHT";
+  public static final String EVT_GET_MSG = "EVT_GET_MSG";
+  public static final String EVT_PLAY_COVER_URL = "EVT_PLAY_COVER_URL";
+  public static final String EVT_PLAY_URL = "EVT_PLAY_URL";
+  public static final String EVT_PLAY_NAME = "EVT_PLAY_NAME";
+  public static final String EVT_PLAY_DESCRIPTION = "EVT_PLAY_DESCRIPTION";
+  public static final String EVT_PLAY_PROGRESS_MS = "EVT_PLAY_PROGRESS_MS";
+  public static final String EVT_PLAY_DURATION_MS = "EVT_PLAY_DURATION_MS";
+  public static final String EVT_PLAY_PROGRESS = "EVT_PLAY_PROGRESS";
+  public static final String EVT_PLAY_DURATION = "EVT_PLAY_DURATION";
+  public static final String EVT_PLAYABLE_DURATION_MS = "EVT_PLAYABLE_DURATION_MS";
+  public static final String EVT_PLAYABLE_DURATION = "EVT_PLAYABLE_DURATION";
+  public static final String EVT_PLAYABLE_RATE = "EVT_PLAYABLE_RATE";
+  public static final String EVT_IMAGESPRIT_WEBVTTURL = "EVT_IMAGESPRIT_WEBVTTURL";
+  public static final String EVT_DRM_TYPE = "EVT_DRM_TYPE";
+  public static final String EVT_KEY_WATER_MARK_TEXT = "EVT_KEY_WATER_MARK_TEXT";
+  public static final String EVT_KEY_SEI_TYPE = "EVT_KEY_SEI_TYPE";
+  public static final String EVT_KEY_SEI_SIZE = "EVT_KEY_SEI_SIZE";
+  public static final String EVT_PLAY_PDT_TIME_MS = "EVT_PLAY_PDT_TIME_MS";
+
+  private static final String[] KNOWN_KEYS = {
+    EVT_UTC_TIME,
+    EVT_BLOCK_DURATION,
+    EVT_TIME,
+    EVT_MSG,
+    EVT_PARAM1,
+    EVT_PARAM2,
+    EVT_WIDTH,
+    EVT_HEIGHT,
+    EVT_GET_MSG,
+    EVT_PLAY_COVER_URL,
+    EVT_PLAY_URL,
+    EVT_PLAY_NAME,
+    EVT_PLAY_DESCRIPTION,
+    EVT_PLAY_PROGRESS_MS,
+    EVT_PLAY_DURATION_MS,
+    EVT_PLAY_PROGRESS,
+    EVT_PLAY_DURATION,
+    EVT_PLAYABLE_DURATION_MS,
+    EVT_PLAYABLE_DURATION,
+    EVT_PLAYABLE_RATE,
+    EVT_IMAGESPRIT_WEBVTTURL,
+    EVT_DRM_TYPE,
+    EVT_KEY_WATER_MARK_TEXT,
+    EVT_KEY_SEI_TYPE,
+    EVT_KEY_SEI_SIZE,
+    EVT_PLAY_PDT_TIME_MS,
+  };
+
+  private static volatile int mode = MODE_DIRECT;
+  private static final AtomicLong events = new AtomicLong();
+  /**
+   * Map construction calls made by {@link #create}: two per event in {@link #MODE_MAP}, one
+   * otherwise. It counts calls, not bytes or the objects the maps allocate internally.
+   */
+  private static final AtomicLong mapCreateCalls = new AtomicLong();
+
+  private RNEventPayload() {}
+
+  public static void setMode(int payloadMode) {
+    if (payloadMode >= MODE_MAP && payloadMode <= MODE_KNOWN_KEYS) {
+      mode = payloadMode;
+    }
+  }
+
+  public static int getMode() {
+    return mode;
+  }
+
+  public static WritableMap create(int event, @Nullable Bundle bundle) {
+    events.incrementAndGet();
+    int currentMode = mode;
+    if (currentMode == MODE_MAP) {
+      // HashMap + native copy.
+      mapCreateCalls.addAndGet(2);
+      return Arguments.makeNativeMap(RNUtils.getParams(event, bundle));
+    }
+    mapCreateCalls.incrementAndGet();
+    WritableMap map = Arguments.createMap();
+    if (event != 0) {
+      map.putInt(KEY_EVENT, event);
+    }
+    if (bundle == null || bundle.isEmpty()) {
+      return map;
+    }
+    if (currentMode == MODE_KNOWN_KEYS) {
+      for (String key : KNOWN_KEYS) {
+        if (bundle.containsKey(key)) {
+          putValue(map, key, bundle.get(key));
+        }
+      }
+    } else {
+      for (String key : bundle.keySet()) {
+        putValue(map, key, bundle.get(key));
+      }
+    }
+    return map;
+  }
+
+  public static WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putInt("mode", mode);
+    stats.putDouble("events", events.get());
+    stats.putDouble("mapCreateCalls", mapCreateCalls.get());
+    return stats;
+  }
+
+  private static void putValue(WritableMap map, String key, @Nullable Object value) {
+    if (value == null) {
+      map.putNull(key);
+    } else if (value instanceof Integer) {
+      map.putInt(key, (Integer) value);
+    } else if (value instanceof Number) {
+      map.putDouble(key, ((Number) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      map.putBoolean(key, (Boolean) value);
+    } else if (value instanceof String) {
+      map.putString(key, (String) value);
+    } else if (value instanceof List) {
+      map.putArray(key, Arguments.makeNativeArray((List<?>) value));
+    } else if (value.getClass().isArray()) {
+      map.putArray(key, Arguments.makeNativeArray(value));
+    } else {
+      map.putString(key, String.valueOf(value));
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package com.txplayer.rnuiplayer.tools;
+
+import android.app.Activity;
+import android.content.Context;
+import android.hardware.display.DisplayManager;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.view.Choreographer;
+import android.view.Display;
+import android.view.FrameMetrics;
+import android.view.Window;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableMap;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Opt-in frame sampler used to compare render view types. Each frame is attributed to SurfaceView
+ * or TextureView when only views of that type have a player bound; mixed or idle frames are not
+ * counted. Counters are reset whenever sampling starts.
+ *
+ * <p>Two measures are kept per type. {@code avgFrameMs}/{@code jankyFrames} are Choreographer
+ * vsync intervals on the UI thread, so they only show UI-thread jank. {@code avgRenderMs} and
+ * {@code avgGpuMs} come from the window's {@link FrameMetrics} and cover the RenderThread and GPU
+ * work of each app frame, where TextureView composition is paid. SurfaceView buffers are composed
+ * by SurfaceFlinger outside the app, so neither measure includes that part.
+ */
+public final class RNFrameMonitor {
+
+  public static final int TYPE_TEXTURE = 0;
+  public static final int TYPE_SURFACE = 1;
+
+  /** A frame counts as janky once it took this many refresh periods. */
+  private static final float JANK_FACTOR = 1.5f;
+
+  private static final Choreographer.FrameCallback CALLBACK = RNFrameMonitor::onFrame;
+  private static final Window.OnFrameMetricsAvailableListener METRICS_LISTENER =
+      (window, metrics, dropCount) -> onFrameMetrics(metrics);
+
+  private static final int[] bound = new int[2];
+  private static final long[] frames = new long[2];
+  private static final long[] totalNanos = new long[2];
+  private static final long[] maxNanos = new long[2];
+  private static final long[] jankyFrames = new long[2];
+  private static final long[] renderFrames = new long[2];
+  private static final long[] renderNanos = new long[2];
+  private static final long[] maxRenderNanos = new long[2];
+  private static final long[] gpuNanos = new long[2];
+  @Nullable private static HandlerThread metricsThread;
+  @Nullable private static volatile WeakReference<Window> metricsWindow;
+  private static volatile boolean enabled = false;
+  private static long lastFrameNanos = 0;
+  private static long refreshNanos = 16_666_667L;
+
+  private RNFrameMonitor() {}
+
+  public static void setEnabled(Context context, boolean enable) {
+    UiThreadUtil.assertOnUiThread();
+    if (enabled == enable) {
+      return;
+    }
+    enabled = enable;
+    lastFrameNanos = 0;
+    if (!enable) {
+      Choreographer.getInstance().removeFrameCallback(CALLBACK);
+      detachMetrics();
+      return;
+    }
+    DisplayManager displayManager =
+        (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
+    Display display =
+        displayManager != null ? displayManager.getDisplay(Display.DEFAULT_DISPLAY) : null;
+    if (display != null && display.getRefreshRate() > 0) {
+      refreshNanos = (long) (1_000_000_000L / display.getRefreshRate());
+    }
+    synchronized (RNFrameMonitor.class) {
+      for (int i = 0; i < frames.length; i++) {
+        frames[i] = 0;
+        totalNanos[i] = 0;
+        maxNanos[i] = 0;
+        jankyFrames[i] = 0;
+        renderFrames[i] = 0;
+        renderNanos[i] = 0;
+        maxRenderNanos[i] = 0;
+        gpuNanos[i] = 0;
+      }
+    }
+    Choreographer.getInstance().postFrameCallback(CALLBACK);
+    attachMetrics(context);
+  }
+
+  private static void attachMetrics(Context context) {
+    Activity activity =
+        context instanceof ReactContext ? ((ReactContext) context).getCurrentActivity() : null;
+    if (activity == null) {
+      return;
+    }
+    if (metricsThread == null) {
+      metricsThread = new HandlerThread("txplayer-frame-metrics");
+      metricsThread.start();
+    }
+    Window window = activity.getWindow();
+    window.addOnFrameMetricsAvailableListener(
+        METRICS_LISTENER, new Handler(metricsThread.getLooper()));
+    metricsWindow = new WeakReference<>(window);
+  }
+
+  private static void detachMetrics() {
+    Window window = metricsWindow != null ? metricsWindow.get() : null;
+    metricsWindow = null;
+    if (window != null) {
+      try {
+        window.removeOnFrameMetricsAvailableListener(METRICS_LISTENER);
+      } catch (IllegalArgumentException ignored) {
+        // The window already dropped its listeners.
+      }
+    }
+  }
+
+  /** Called on the main thread when a player binds to / unbinds from a view of {@code type}. */
+  public static void onBound(int type, boolean isBound) {
+    bound[type] = Math.max(0, bound[type] + (isBound ? 1 : -1));
+  }
+
+  private static void onFrame(long frameTimeNanos) {
+    if (!enabled) {
+      return;
+    }
+    if (lastFrameNanos > 0) {
+      int type = boundType();
+      if (type >= 0) {
+        record(type, frameTimeNanos - lastFrameNanos);
+      }
+    }
+    lastFrameNanos = frameTimeNanos;
+    Choreographer.getInstance().postFrameCallback(CALLBACK);
+  }
+
+  /** The view type that alone has players bound, or -1 when mixed or idle. */
+  private static int boundType() {
+    if (bound[TYPE_TEXTURE] > 0 && bound[TYPE_SURFACE] == 0) {
+      return TYPE_TEXTURE;
+    }
+    if (bound[TYPE_SURFACE] > 0 && bound[TYPE_TEXTURE] == 0) {
+      return TYPE_SURFACE;
+    }
+    return -1;
+  }
+
+  /** Runs on the metrics thread for each frame the window rendered. */
+  private static void onFrameMetrics(FrameMetrics metrics) {
+    int type = boundType();
+    if (!enabled || type < 0) {
+      return;
+    }
+    long render =
+        metrics.getMetric(FrameMetrics.DRAW_DURATION)
+            + metrics.getMetric(FrameMetrics.SYNC_DURATION)
+            + metrics.getMetric(FrameMetrics.COMMAND_ISSUE_DURATION)
+            + metrics.getMetric(FrameMetrics.SWAP_BUFFERS_DURATION);
+    long gpu =
+        Build.VERSION.SDK_INT >= Build.VERSION_CODES.S
+            ? metrics.getMetric(FrameMetrics.GPU_DURATION)
+            : 0;
+    recordRender(type, render, gpu);
+  }
+
+  private static synchronized void record(int type, long intervalNanos) {
+    frames[type]++;
+    totalNanos[type] += intervalNanos;
+    maxNanos[type] = Math.max(maxNanos[type], intervalNanos);
+    if (intervalNanos > refreshNanos * JANK_FACTOR) {
+      jankyFrames[type]++;
+    }
+  }
+
+  private static synchronized void recordRender(int type, long render, long gpu) {
+    renderFrames[type]++;
+    renderNanos[type] += render;
+    maxRenderNanos[type] = Math.max(maxRenderNanos[type], render);
+    gpuNanos[type] += gpu;
+  }
+
+  public static synchronized WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putBoolean("enabled", enabled);
+    stats.putBoolean("renderMetrics", metricsWindow != null);
+    stats.putDouble("refreshMs", refreshNanos / 1e6);
+    stats.putMap("textureView", typeStats(TYPE_TEXTURE));
+    stats.putMap("surfaceView", typeStats(TYPE_SURFACE));
+    return stats;
+  }
+
+  private static WritableMap typeStats(int type) {
+    WritableMap stats = Arguments.createMap();
+    stats.putDouble("frames", frames[type]);
+    stats.putDouble("avgFrameMs", frames[type] > 0 ? totalNanos[type] / 1e6 / frames[type] : 0);
+    stats.putDouble("maxFrameMs", maxNanos[type] / 1e6);
+    stats.putDouble("jankyFrames", jankyFrames[type]);
+    long rendered = renderFrames[type];
+    stats.putDouble("renderFrames", rendered);
+    stats.putDouble("avgRenderMs", rendered > 0 ? renderNanos[type] / 1e6 / rendered : 0);
+    stats.putDouble("maxRenderMs", maxRenderNanos[type] / 1e6);
+    stats.putDouble("avgGpuMs", rendered > 0 ? gpuNanos[type] / 1e6 / rendered : 0);
+    return stats;
+  }
+}
@@ -0,0 +1,90 @@
+package com.txplayer.rnuiplayer.tools;
+
+import android.graphics.Bitmap;
+import android.util.LruCache;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional LRU of downscaled last frames, captured when a view unbinds and painted when the same
+ * source is bound again so back-scrolling doesn't flash black. Disabled by default.
+ */
+public final class RNSnapshotCache {
+
+  public static final int DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+  /** Longest edge of a stored snapshot. */
+  public static final int MAX_EDGE = 540;
+
+  private static volatile boolean enabled = false;
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+  private static final AtomicLong captures = new AtomicLong();
+
+  private static final LruCache<String, Bitmap> CACHE =
+      new LruCache<String, Bitmap>(DEFAULT_MAX_BYTES) {
+        @Override
+        protected int sizeOf(String key, Bitmap value) {
+          return value.getByteCount();
+        }
+      };
+
+  private RNSnapshotCache() {}
+
+  /** {@code maxBytes} of 0 keeps the current cap. Disabling drops every snapshot. */
+  public static void configure(boolean enable, int maxBytes) {
+    enabled = enable;
+    if (!enable) {
+      CACHE.evictAll();
+      return;
+    }
+    if (maxBytes > 0) {
+      CACHE.resize(maxBytes);
+    }
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void put(@Nullable String key, Bitmap bitmap) {
+    if (!enabled || key == null) {
+      return;
+    }
+    captures.incrementAndGet();
+    CACHE.put(key, bitmap);
+  }
+
+  @Nullable
+  public static Bitmap get(@Nullable String key) {
+    if (!enabled || key == null) {
+      return null;
+    }
+    Bitmap bitmap = CACHE.get(key);
+    if (bitmap != null) {
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+    }
+    return bitmap;
+  }
+
+  public static void trimMemory() {
+    CACHE.evictAll();
+  }
+
+  public static WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putBoolean("enabled", enabled);
+    stats.putDouble("bytes", CACHE.size());
+    stats.putDouble("maxBytes", CACHE.maxSize());
+    stats.putDouble("captures", captures.get());
+    stats.putDouble("hits", hits.get());
+    stats.putDouble("misses", misses.get());
+    return stats;
+  }
+}
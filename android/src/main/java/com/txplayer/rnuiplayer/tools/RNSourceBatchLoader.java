@@ -0,0 +1,85 @@
+package com.txplayer.rnuiplayer.tools;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.tencent.qcloud.tuiplayer.core.api.model.TUIVideoSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Converts large source batches in chunks on a background pool. The array is imported once on
+ * the calling thread; chunks are then converted in parallel without touching JNI, and callers
+ * consume them in order as each one completes.
+ */
+public final class RNSourceBatchLoader {
+
+  public static final int STREAM_THRESHOLD = 128;
+  public static final int CHUNK_SIZE = 64;
+
+  private static final ExecutorService CONVERT_POOL =
+      Executors.newFixedThreadPool(
+          Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)),
+          new RNThreadFactory("txplayer-convert"));
+
+  private static final Object STATS_LOCK = new Object();
+  private static long batches = 0;
+  private static long streamedBatches = 0;
+  private static long items = 0;
+  private static double totalMs = 0;
+  private static double lastBatchMs = 0;
+  private static double maxBatchMs = 0;
+  private static int lastBatchSize = 0;
+
+  private RNSourceBatchLoader() {}
+
+  public static boolean shouldStream(ReadableArray array) {
+    return array.size() >= STREAM_THRESHOLD;
+  }
+
+  public static List<Future<List<TUIVideoSource>>> convertChunks(ReadableArray array) {
+    final List<Object> imported = array.toArrayList();
+    final int size = imported.size();
+    List<Future<List<TUIVideoSource>>> chunks = new ArrayList<>();
+    for (int from = 0; from < size; from += CHUNK_SIZE) {
+      final int start = from;
+      final int end = Math.min(size, from + CHUNK_SIZE);
+      chunks.add(
+          CONVERT_POOL.submit(() -> RNTransformer.transformVideoSources(imported, start, end)));
+    }
+    return chunks;
+  }
+
+  public static void recordBatch(int batchSize, long elapsedNanos, boolean streamed) {
+    double elapsedMs = elapsedNanos / 1_000_000.0;
+    synchronized (STATS_LOCK) {
+      batches++;
+      if (streamed) {
+        streamedBatches++;
+      }
+      items += batchSize;
+      totalMs += elapsedMs;
+      lastBatchMs = elapsedMs;
+      lastBatchSize = batchSize;
+      maxBatchMs = Math.max(maxBatchMs, elapsedMs);
+    }
+  }
+
+  public static WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    synchronized (STATS_LOCK) {
+      stats.putDouble("batches", batches);
+      stats.putDouble("streamedBatches", streamedBatches);
+      stats.putDouble("items", items);
+      stats.putDouble("totalMs", totalMs);
+      stats.putDouble("lastBatchMs", lastBatchMs);
+      stats.putInt("lastBatchSize", lastBatchSize);
+      stats.putDouble("maxBatchMs", maxBatchMs);
+    }
+    return stats;
+  }
+}
@@ -0,0 +1,23 @@
+package com.txplayer.rnuiplayer.tools;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class RNThreadFactory implements ThreadFactory {
+
+  private final String prefix;
+  private final AtomicInteger index = new AtomicInteger();
+
+  public RNThreadFactory(String prefix) {
+    this.prefix = prefix;
+  }
+
+  @Override
+  public Thread newThread(@NonNull Runnable runnable) {
+    Thread thread = new Thread(runnable, prefix + "-" + index.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  }
+}
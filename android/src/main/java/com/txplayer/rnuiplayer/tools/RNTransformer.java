@@ -1,5 +1,7 @@
 package com.txplayer.rnuiplayer.tools;
 
+import android.text.TextUtils;
+
 import androidx.annotation.Nullable;
 
 import com.facebook.react.bridge.ReadableArray;
@@ -8,17 +10,34 @@ import com.facebook.react.bridge.ReadableType;
 import com.tencent.qcloud.tuiplayer.core.TUIPlayerConfig;
 import com.tencent.qcloud.tuiplayer.core.api.TUIPlayerVodStrategy;
 import com.tencent.qcloud.tuiplayer.core.api.common.TUIConstants;
+import com.tencent.qcloud.tuiplayer.core.api.model.TUIPlaySource;
 import com.tencent.qcloud.tuiplayer.core.api.model.TUISubtitleSource;
 import com.tencent.qcloud.tuiplayer.core.api.model.TUIVideoSource;
 
-import java.util.ArrayList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public final class RNTransformer {
 
   private RNTransformer() {}
 
+  /** Stable identity of a source for the per-source caches; null if it has neither url nor id. */
+  @Nullable
+  public static String sourceKey(@Nullable TUIPlaySource source) {
+    if (!(source instanceof TUIVideoSource)) {
+      return null;
+    }
+    TUIVideoSource videoSource = (TUIVideoSource) source;
+    if (!TextUtils.isEmpty(videoSource.getVideoURL())) {
+      return videoSource.getVideoURL();
+    }
+    if (!TextUtils.isEmpty(videoSource.getFileId())) {
+      return videoSource.getAppId() + "/" + videoSource.getFileId();
+    }
+    return null;
+  }
+
   public static TUIPlayerConfig transformToConfig(ReadableMap map) {
     boolean enableLog = !map.hasKey("enableLog") || map.getBoolean("enableLog");
     String licenseUrl = map.hasKey("licenseUrl") ? map.getString("licenseUrl") : "";
@@ -31,79 +50,102 @@ public final class RNTransformer {
   }
 
   public static List<TUIVideoSource> transformVideoSources(ReadableArray array) {
-    List<TUIVideoSource> sourceList = new ArrayList<>();
-    for (int i = 0; i < array.size(); i++) {
-      ReadableMap item = array.getMap(i);
-      if (item != null) {
-        sourceList.add(transformVideoSource(item));
+    List<Object> items = array.toArrayList();
+    return transformVideoSources(items, 0, items.size());
+  }
+
+  /** Converts {@code items[from, to)} of an already imported array; safe off the module thread. */
+  public static List<TUIVideoSource> transformVideoSources(List<Object> items, int from, int to) {
+    List<TUIVideoSource> sourceList = new ArrayList<>(Math.max(0, to - from));
+    for (int i = from; i < to; i++) {
+      Object item = items.get(i);
+      if (item instanceof Map) {
+        sourceList.add(transformVideoSource(asStringMap(item)));
       }
     }
     return sourceList;
   }
 
   public static TUIVideoSource transformVideoSource(ReadableMap map) {
+    // One bulk import instead of a hasKey/getType/get JNI round-trip per field.
+    return transformVideoSource(map.toHashMap());
+  }
+
+  public static TUIVideoSource transformVideoSource(Map<String, Object> map) {
     TUIVideoSource source = new TUIVideoSource();
-    if (map.hasKey("videoURL") && map.getType("videoURL") != ReadableType.Null) {
-      source.setVideoURL(map.getString("videoURL"));
+    String videoURL = stringValue(map, "videoURL");
+    if (videoURL != null) {
+      source.setVideoURL(videoURL);
     }
-    if (map.hasKey("coverPictureUrl") && map.getType("coverPictureUrl") != ReadableType.Null) {
-      source.setCoverPictureUrl(map.getString("coverPictureUrl"));
+    String coverPictureUrl = stringValue(map, "coverPictureUrl");
+    if (coverPictureUrl != null) {
+      source.setCoverPictureUrl(coverPictureUrl);
     }
-    if (map.hasKey("appId") && map.getType("appId") != ReadableType.Null) {
-      source.setAppId(map.getInt("appId"));
+    Object appId = map.get("appId");
+    if (appId instanceof Number) {
+      source.setAppId(((Number) appId).intValue());
     }
-    if (map.hasKey("fileId") && map.getType("fileId") != ReadableType.Null) {
-      source.setFileId(map.getString("fileId"));
+    String fileId = stringValue(map, "fileId");
+    if (fileId != null) {
+      source.setFileId(fileId);
     }
-    if (map.hasKey("pSign") && map.getType("pSign") != ReadableType.Null) {
-      source.setPSign(map.getString("pSign"));
+    String pSign = stringValue(map, "pSign");
+    if (pSign != null) {
+      source.setPSign(pSign);
     }
-    if (map.hasKey("isAutoPlay") && map.getType("isAutoPlay") != ReadableType.Null) {
-      source.setAutoPlay(map.getBoolean("isAutoPlay"));
-    } else {
-      source.setAutoPlay(true);
+    Object isAutoPlay = map.get("isAutoPlay");
+    source.setAutoPlay(!(isAutoPlay instanceof Boolean) || (Boolean) isAutoPlay);
+    Object ext = map.get("extInfo");
+    if (ext instanceof Map) {
+      source.setExtInfoAndNotify(ext);
     }
-    if (map.hasKey("extInfo") && map.getType("extInfo") != ReadableType.Null) {
-      ReadableMap ext = map.getMap("extInfo");
-      if (ext != null) {
-        source.setExtInfoAndNotify(ext.toHashMap());
-      }
-    }
-    if (map.hasKey("subtitleSources") && map.getType("subtitleSources") != ReadableType.Null) {
-      ReadableArray subtitles = map.getArray("subtitleSources");
-      if (subtitles != null && subtitles.size() > 0) {
-        List<TUISubtitleSource> subtitleSources = new ArrayList<>();
-        for (int i = 0; i < subtitles.size(); i++) {
-          ReadableMap subtitleMap = subtitles.getMap(i);
-          if (subtitleMap == null) {
-            continue;
-          }
-          if (!subtitleMap.hasKey("url") || subtitleMap.getType("url") == ReadableType.Null) {
-            continue;
-          }
-          String url = subtitleMap.getString("url");
-          if (url == null || url.isEmpty()) {
-            continue;
-          }
-          String mimeType =
-              subtitleMap.hasKey("mimeType") && subtitleMap.getType("mimeType") != ReadableType.Null
-                  ? subtitleMap.getString("mimeType")
-                  : "";
-          String name =
-              subtitleMap.hasKey("name") && subtitleMap.getType("name") != ReadableType.Null
-                  ? subtitleMap.getString("name")
-                  : "";
-          TUISubtitleSource subtitleSource = new TUISubtitleSource(url, name, mimeType);
-          subtitleSources.add(subtitleSource);
+    Object subtitles = map.get("subtitleSources");
+    if (subtitles instanceof List && !((List<?>) subtitles).isEmpty()) {
+      List<TUISubtitleSource> subtitleSources = new ArrayList<>();
+      for (Object subtitle : (List<?>) subtitles) {
+        if (!(subtitle instanceof Map)) {
+          continue;
         }
-        if (!subtitleSources.isEmpty()) {
-          source.setExternalSubtitle(subtitleSources);
+        Map<String, Object> subtitleMap = asStringMap(subtitle);
+        String url = stringValue(subtitleMap, "url");
+        if (url == null || url.isEmpty()) {
+          continue;
         }
+        String mimeType = stringValue(subtitleMap, "mimeType");
+        String name = stringValue(subtitleMap, "name");
+        TUISubtitleSource subtitleSource =
+            new TUISubtitleSource(url, name != null ? name : "", mimeType != null ? mimeType : "");
+        subtitleSources.add(subtitleSource);
+      }
+      if (!subtitleSources.isEmpty()) {
+        source.setExternalSubtitle(subtitleSources);
       }
     }
     return source;
   }
 
+  @Nullable
+  private static String stringValue(Map<String, Object> map, String key) {
+    Object value = map.get(key);
+    return value instanceof String ? (String) value : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> asStringMap(Object value) {
+    return (Map<String, Object>) value;
+  }
+
+  public static int[] transformIntArray(@Nullable ReadableArray array) {
+    if (array == null) {
+      return new int[0];
+    }
+    int[] result = new int[array.size()];
+    for (int i = 0; i < array.size(); i++) {
+      result[i] = array.getInt(i);
+    }
+    return result;
+  }
+
   public static TUIPlayerVodStrategy transformVodStrategy(@Nullable ReadableMap map) {
     TUIPlayerVodStrategy.Builder builder = new TUIPlayerVodStrategy.Builder();
     if (map != null) {
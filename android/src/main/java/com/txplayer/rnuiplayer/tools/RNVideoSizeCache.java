@@ -0,0 +1,62 @@
+package com.txplayer.rnuiplayer.tools;
+
+import android.util.LruCache;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Last known video dimensions per source, so a re-bound source gets its aspect ratio before the
+ * first frame instead of after the player reports a resolution.
+ */
+public final class RNVideoSizeCache {
+
+  private static final int MAX_ENTRIES = 512;
+
+  private static final LruCache<String, Long> CACHE = new LruCache<>(MAX_ENTRIES);
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+
+  private RNVideoSizeCache() {}
+
+  public static void put(@Nullable String key, int width, int height) {
+    if (key == null || width <= 0 || height <= 0) {
+      return;
+    }
+    CACHE.put(key, ((long) width << 32) | (height & 0xffffffffL));
+  }
+
+  /** Returns {@code width << 32 | height}, or 0 when the source was never sized. */
+  public static long get(@Nullable String key) {
+    if (key == null) {
+      return 0;
+    }
+    Long size = CACHE.get(key);
+    if (size == null) {
+      misses.incrementAndGet();
+      return 0;
+    }
+    hits.incrementAndGet();
+    return size;
+  }
+
+  public static int widthOf(long size) {
+    return (int) (size >>> 32);
+  }
+
+  public static int heightOf(long size) {
+    return (int) size;
+  }
+
+  public static WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putInt("entries", CACHE.size());
+    stats.putDouble("hits", hits.get());
+    stats.putDouble("misses", misses.get());
+    return stats;
+  }
+}
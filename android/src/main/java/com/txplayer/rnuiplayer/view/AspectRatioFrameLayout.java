@@ -10,6 +10,11 @@ import androidx.annotation.Nullable;
 /**
  * Simple FrameLayout that keeps its child at a target aspect ratio.
  * resizeMode: FIT = contain (letterbox), FILL = cover (center-crop).
+ *
+ * <p>With {@link #setCropByTransform(boolean)} the child is always laid out at the contain size
+ * and cover is done by scaling it up around its center, clipped by this layout. The render target
+ * then never exceeds the screen and switching resize modes only changes the scale. SurfaceViews
+ * don't follow view transforms, so they keep the oversized layout.
  */
 public class AspectRatioFrameLayout extends FrameLayout {
 
@@ -18,6 +23,7 @@ public class AspectRatioFrameLayout extends FrameLayout {
 
   private float aspectRatio = 0f;
   private int resizeMode = RESIZE_MODE_FIT;
+  private boolean cropByTransform = false;
 
   public AspectRatioFrameLayout(@NonNull Context context) {
     super(context);
@@ -45,6 +51,17 @@ public class AspectRatioFrameLayout extends FrameLayout {
   public void setResizeMode(int resizeMode) {
     if (this.resizeMode != resizeMode) {
       this.resizeMode = resizeMode;
+      if (cropByTransform) {
+        updateCropScale();
+      } else {
+        requestLayout();
+      }
+    }
+  }
+
+  public void setCropByTransform(boolean enabled) {
+    if (cropByTransform != enabled) {
+      cropByTransform = enabled;
       requestLayout();
     }
   }
@@ -72,7 +89,7 @@ public class AspectRatioFrameLayout extends FrameLayout {
     if (aspectRatio > 0f && availableWidth > 0 && availableHeight > 0) {
       float viewRatio = (float) availableWidth / (float) availableHeight;
       float diff = aspectRatio / viewRatio - 1f;
-      if (resizeMode == RESIZE_MODE_FIT) {
+      if (resizeMode == RESIZE_MODE_FIT || cropByTransform) {
         if (diff > 0) {
           childHeight = (int) (availableWidth / aspectRatio);
         } else {
@@ -116,5 +133,24 @@ public class AspectRatioFrameLayout extends FrameLayout {
       int ct = paddingTop + (availableHeight - ch) / 2;
       child.layout(cl, ct, cl + cw, ct + ch);
     }
+    updateCropScale();
+  }
+
+  private void updateCropScale() {
+    int availableWidth = getWidth() - getPaddingLeft() - getPaddingRight();
+    int availableHeight = getHeight() - getPaddingTop() - getPaddingBottom();
+    for (int i = 0; i < getChildCount(); i++) {
+      android.view.View child = getChildAt(i);
+      float scale = 1f;
+      int cw = child.getWidth();
+      int ch = child.getHeight();
+      if (cropByTransform && resizeMode == RESIZE_MODE_FILL && cw > 0 && ch > 0) {
+        scale = Math.max(1f, Math.max((float) availableWidth / cw, (float) availableHeight / ch));
+      }
+      if (child.getScaleX() != scale || child.getScaleY() != scale) {
+        child.setScaleX(scale);
+        child.setScaleY(scale);
+      }
+    }
   }
 }
@@ -0,0 +1,88 @@
+package com.txplayer.rnuiplayer.view;
+
+import com.txplayer.rnuiplayer.common.RNConstant;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks which per-view events JS is listening for. {@link #ANY_VIEW} holds a mask that applies to
+ * every view and defaults to {@link #MASK_ALL}, so every view emits until an app opts in to
+ * narrowing by setting it to {@code 0}; from then on views nobody observes don't emit at all.
+ */
+public final class RNEventRegistry {
+
+  public static final int ANY_VIEW = -1;
+
+  public static final int MASK_PLAY_EVENT = 1;
+  public static final int MASK_CONTROLLER_BIND = 1 << 1;
+  public static final int MASK_CONTROLLER_UNBIND = 1 << 2;
+  public static final int MASK_SUBTITLE_TRACKS = 1 << 3;
+  public static final int MASK_PLAY_PROGRESS = 1 << 4;
+  public static final int MASK_ALL = (1 << 5) - 1;
+
+  private static final ConcurrentMap<Integer, Integer> MASK_MAP = new ConcurrentHashMap<>();
+  private static final AtomicLong skipped = new AtomicLong();
+  private static volatile int anyViewMask = MASK_ALL;
+
+  private RNEventRegistry() {}
+
+  public static void setMask(int viewTag, int mask) {
+    if (viewTag == ANY_VIEW) {
+      anyViewMask = mask;
+    } else if (mask == 0) {
+      MASK_MAP.remove(viewTag);
+    } else {
+      MASK_MAP.put(viewTag, mask);
+    }
+  }
+
+  public static void clear(int viewTag) {
+    if (viewTag != ANY_VIEW) {
+      MASK_MAP.remove(viewTag);
+    }
+  }
+
+  public static boolean hasListener(int viewTag, String eventName) {
+    int bit = maskOf(eventName);
+    if (bit == 0) {
+      return true;
+    }
+    if ((anyViewMask & bit) != 0 || (maskFor(viewTag) & bit) != 0) {
+      return true;
+    }
+    skipped.incrementAndGet();
+    return false;
+  }
+
+  public static int size() {
+    return MASK_MAP.size();
+  }
+
+  public static long getSkippedCount() {
+    return skipped.get();
+  }
+
+  private static int maskFor(int viewTag) {
+    Integer mask = MASK_MAP.get(viewTag);
+    return mask != null ? mask : 0;
+  }
+
+  private static int maskOf(String eventName) {
+    switch (eventName) {
+      case RNConstant.EVENT_PLAY_EVENT:
+        return MASK_PLAY_EVENT;
+      case RNConstant.EVENT_CONTROLLER_BIND:
+        return MASK_CONTROLLER_BIND;
+      case RNConstant.EVENT_CONTROLLER_UNBIND:
+        return MASK_CONTROLLER_UNBIND;
+      case RNConstant.EVENT_SUBTITLE_TRACKS:
+        return MASK_SUBTITLE_TRACKS;
+      case RNConstant.EVENT_PLAY_PROGRESS:
+        return MASK_PLAY_PROGRESS;
+      default:
+        return 0;
+    }
+  }
+}
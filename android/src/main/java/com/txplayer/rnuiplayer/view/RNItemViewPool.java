@@ -0,0 +1,95 @@
+package com.txplayer.rnuiplayer.view;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Bounded pool of dropped {@link RNShortVideoItemView}s. Reuse keeps the TUI item view, its
+ * display surface and the vod controller instead of rebuilding them on every cell mount. Views are
+ * only handed back to the themed context they were created with. Pool changes happen on the UI
+ * thread; every member is synchronized so {@link #getStats()} can be read from the module thread.
+ */
+public final class RNItemViewPool {
+
+  public static final int DEFAULT_MAX_SIZE = 4;
+
+  private static final ArrayDeque<RNShortVideoItemView> POOL = new ArrayDeque<>();
+  private static int maxSize = DEFAULT_MAX_SIZE;
+  private static long hits = 0;
+  private static long misses = 0;
+  private static long recycled = 0;
+  private static long discarded = 0;
+
+  private RNItemViewPool() {}
+
+  @Nullable
+  public static synchronized RNShortVideoItemView acquire(Context context) {
+    UiThreadUtil.assertOnUiThread();
+    Iterator<RNShortVideoItemView> iterator = POOL.iterator();
+    while (iterator.hasNext()) {
+      RNShortVideoItemView view = iterator.next();
+      if (view.getContext() == context) {
+        iterator.remove();
+        hits++;
+        return view;
+      }
+    }
+    misses++;
+    return null;
+  }
+
+  /** Recycles {@code view} into the pool, or fully disposes it when the pool is full. */
+  public static synchronized void release(RNShortVideoItemView view) {
+    UiThreadUtil.assertOnUiThread();
+    if (POOL.size() >= maxSize) {
+      discarded++;
+      view.dispose();
+      return;
+    }
+    if (view.getParent() instanceof ViewGroup) {
+      ((ViewGroup) view.getParent()).removeView(view);
+    }
+    view.recycle();
+    POOL.addLast(view);
+    recycled++;
+  }
+
+  public static synchronized void setMaxSize(int size) {
+    UiThreadUtil.assertOnUiThread();
+    maxSize = Math.max(0, size);
+    while (POOL.size() > maxSize) {
+      POOL.removeFirst().destroy();
+    }
+  }
+
+  /**
+   * Destroys every pooled view, e.g. under memory pressure, when the host Activity is destroyed or
+   * when the module goes away.
+   */
+  public static synchronized void clear() {
+    UiThreadUtil.assertOnUiThread();
+    while (!POOL.isEmpty()) {
+      POOL.removeFirst().destroy();
+    }
+  }
+
+  public static synchronized WritableMap getStats() {
+    WritableMap stats = Arguments.createMap();
+    stats.putInt("size", POOL.size());
+    stats.putInt("maxSize", maxSize);
+    stats.putDouble("hits", hits);
+    stats.putDouble("misses", misses);
+    stats.putDouble("recycled", recycled);
+    stats.putDouble("discarded", discarded);
+    return stats;
+  }
+}
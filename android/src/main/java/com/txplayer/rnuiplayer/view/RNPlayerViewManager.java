@@ -1,6 +1,7 @@
 package com.txplayer.rnuiplayer.view;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.facebook.react.uimanager.SimpleViewManager;
 import com.facebook.react.uimanager.ThemedReactContext;
@@ -18,15 +19,27 @@ public class RNPlayerViewManager extends SimpleViewManager<RNShortVideoItemView>
   @NonNull
   @Override
   protected RNShortVideoItemView createViewInstance(@NonNull ThemedReactContext context) {
-    return new RNShortVideoItemView(context);
+    RNShortVideoItemView view = RNItemViewPool.acquire(context);
+    return view != null ? view : new RNShortVideoItemView(context);
   }
 
   @Override
   public void onDropViewInstance(@NonNull RNShortVideoItemView view) {
-    view.dispose();
+    RNItemViewPool.release(view);
     super.onDropViewInstance(view);
   }
 
+  @Override
+  protected void onAfterUpdateTransaction(@NonNull RNShortVideoItemView view) {
+    super.onAfterUpdateTransaction(view);
+    view.applyRenderViewType();
+  }
+
+  @ReactProp(name = "renderViewType")
+  public void setRenderViewType(RNShortVideoItemView view, @Nullable String renderViewType) {
+    view.setRenderViewType(renderViewType);
+  }
+
   @ReactProp(name = "resizeMode")
   public void setResizeMode(RNShortVideoItemView view, String resizeMode) {
     view.setResizeMode(resizeMode);
@@ -1,12 +1,19 @@
 package com.txplayer.rnuiplayer.view;
 
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.text.TextUtils;
 import android.view.Gravity;
+import android.os.Looper;
+import android.view.TextureView;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.FrameLayout;
+import android.widget.ImageView;
 import android.widget.FrameLayout.LayoutParams;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.WritableMap;
 import com.tencent.qcloud.tuiplayer.core.api.common.TUIConstants;
@@ -15,16 +22,40 @@ import com.tencent.rtmp.ui.TXSubtitleView;
 import com.txplayer.rnuiplayer.common.RNConstant;
 import com.txplayer.rnuiplayer.common.TxplayerEventDispatcher;
 import com.txplayer.rnuiplayer.player.event.RNVodController;
+import com.txplayer.rnuiplayer.tools.RNCoverCache;
+import com.txplayer.rnuiplayer.tools.RNFrameMonitor;
+import com.txplayer.rnuiplayer.tools.RNSnapshotCache;
 
   public class RNShortVideoItemView extends FrameLayout {
 
   private final AspectRatioFrameLayout renderContainer;
-  private final TUIShortVideoItemView itemView;
+  private TUIShortVideoItemView itemView;
   private final RNVodController vodController;
-  private final TXSubtitleView subtitleView;
+  /** Created on the first native subtitle selection; most videos never need it. */
+  @Nullable private TXSubtitleView subtitleView;
+  /** The last viewTag this view was registered under; kept while it sits in the pool. */
+  private int lastViewTag = View.NO_ID;
+  private final ImageView coverView;
+  @Nullable private String coverUrl;
+  /** Source whose first frame is on the render surface; no placeholder is needed for it. */
+  @Nullable private String renderedKey;
   private int videoWidth = 0;
   private int videoHeight = 0;
   private int resizeMode = AspectRatioFrameLayout.RESIZE_MODE_FIT;
+  private TUIConstants.RenderViewType renderViewType = TUIConstants.RenderViewType.TEXTURE_VIEW;
+  private TUIConstants.RenderViewType requestedRenderViewType =
+      TUIConstants.RenderViewType.TEXTURE_VIEW;
+  /** Controller and index of the last bind or pre-bind, -1 when the view has no owner. */
+  private int ownerControllerId = -1;
+  private int ownerIndex = -1;
+  @Nullable private ReleaseListener releaseListener;
+  /** {@link RNFrameMonitor} type counted for the bound player, -1 while unbound. */
+  private int boundFrameType = -1;
+
+  /** Told when the view is disposed or recycled, so its owner drops per-view bookkeeping. */
+  public interface ReleaseListener {
+    void onViewReleased(int viewTag);
+  }
 
   public RNShortVideoItemView(@NonNull Context context) {
     super(context);
@@ -33,22 +64,79 @@ import com.txplayer.rnuiplayer.player.event.RNVodController;
     renderContainer.setLayoutParams(
         new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
     renderContainer.setResizeMode(AspectRatioFrameLayout.RESIZE_MODE_FIT);
-    itemView =
-        new TUIShortVideoItemView(context, TUIConstants.RenderViewType.TEXTURE_VIEW);
-    itemView.setClickable(false);
-    itemView.setFocusableInTouchMode(false);
-    itemView.setLongClickable(false);
-    renderContainer.addView(
-        itemView, new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
     addView(renderContainer);
-    subtitleView = new TXSubtitleView(context);
-    subtitleView.setVisibility(View.GONE);
-    LayoutParams subtitleParams =
-        new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT, Gravity.BOTTOM);
-    addView(subtitleView, subtitleParams);
+    coverView = new ImageView(context);
+    coverView.setScaleType(ImageView.ScaleType.FIT_CENTER);
+    coverView.setVisibility(View.GONE);
+    addView(coverView, new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
     vodController = new RNVodController(reactContext, this);
-    itemView.addVideoItemViewListener(vodController);
-    itemView.createDisplayView();
+    itemView = createItemView(renderViewType);
+    RNViewRegistry.onCreated(this);
+  }
+
+  private TUIShortVideoItemView createItemView(TUIConstants.RenderViewType type) {
+    TUIShortVideoItemView view = new TUIShortVideoItemView(getContext(), type);
+    renderContainer.setCropByTransform(type == TUIConstants.RenderViewType.TEXTURE_VIEW);
+    view.setClickable(false);
+    view.setFocusableInTouchMode(false);
+    view.setLongClickable(false);
+    renderContainer.addView(
+        view, 0, new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
+    view.addVideoItemViewListener(vodController);
+    view.createDisplayView();
+    return view;
+  }
+
+  /** Takes effect with {@link #applyRenderViewType()}, or after the next unbind if bound. */
+  public void setRenderViewType(@Nullable String type) {
+    requestedRenderViewType =
+        "surface".equals(type)
+            ? TUIConstants.RenderViewType.SURFACE_VIEW
+            : TUIConstants.RenderViewType.TEXTURE_VIEW;
+  }
+
+  /**
+   * Rebuilds the TUI item view with the requested render view type. The SDK fixes the type at
+   * construction, so switching is only safe while no player is bound.
+   */
+  public void applyRenderViewType() {
+    if (requestedRenderViewType == renderViewType || itemView.getController() != null) {
+      return;
+    }
+    TUIShortVideoItemView old = itemView;
+    old.removeVideoItemViewListener(vodController);
+    old.onViewDestroyed();
+    renderContainer.removeView(old);
+    renderViewType = requestedRenderViewType;
+    itemView = createItemView(renderViewType);
+    renderedKey = null;
+  }
+
+  public void onControllerBound() {
+    RNViewRegistry.setBound(getId(), true);
+    if (boundFrameType < 0) {
+      boundFrameType =
+          renderViewType == TUIConstants.RenderViewType.SURFACE_VIEW
+              ? RNFrameMonitor.TYPE_SURFACE
+              : RNFrameMonitor.TYPE_TEXTURE;
+      RNFrameMonitor.onBound(boundFrameType, true);
+    }
+  }
+
+  public void onControllerUnbound() {
+    RNViewRegistry.setBound(getId(), false);
+    releaseFrameType();
+    if (requestedRenderViewType != renderViewType) {
+      // Still inside the SDK's unbind; swap the view once it returned.
+      post(this::applyRenderViewType);
+    }
+  }
+
+  private void releaseFrameType() {
+    if (boundFrameType >= 0) {
+      RNFrameMonitor.onBound(boundFrameType, false);
+      boundFrameType = -1;
+    }
   }
 
   public TUIShortVideoItemView getVideoItemView() {
@@ -59,24 +147,153 @@ import com.txplayer.rnuiplayer.player.event.RNVodController;
     return vodController;
   }
 
-  public TXSubtitleView getSubtitleView() {
+  public TXSubtitleView obtainSubtitleView() {
+    if (subtitleView == null) {
+      subtitleView = new TXSubtitleView(getContext());
+      subtitleView.setVisibility(View.GONE);
+      addView(
+          subtitleView,
+          new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT, Gravity.BOTTOM));
+    }
     return subtitleView;
   }
 
+  public boolean hasSubtitleView() {
+    return subtitleView != null;
+  }
+
   public void showSubtitleLayer() {
-    subtitleView.setVisibility(View.VISIBLE);
-    subtitleView.bringToFront();
+    TXSubtitleView view = obtainSubtitleView();
+    view.setVisibility(View.VISIBLE);
+    // Created lazily, so it may sit under the cover or overlay children added before it.
+    view.bringToFront();
   }
 
   public void hideSubtitleLayer() {
-    subtitleView.setVisibility(View.GONE);
+    if (subtitleView != null) {
+      subtitleView.setVisibility(View.GONE);
+    }
+  }
+
+  private void releaseSubtitleView() {
+    if (subtitleView != null) {
+      removeView(subtitleView);
+      subtitleView = null;
+    }
+  }
+
+  /**
+   * Paints the last frame captured for {@code snapshotKey} if there is one, otherwise the cover;
+   * either way it stays until the first frame renders. Nothing is painted when the surface already
+   * shows a frame of that source, e.g. a pre-rendered view promoted to current.
+   */
+  public void showPlaceholder(@Nullable String snapshotKey, @Nullable String cover) {
+    if (snapshotKey != null && snapshotKey.equals(renderedKey)) {
+      return;
+    }
+    renderedKey = null;
+    Bitmap snapshot = RNSnapshotCache.get(snapshotKey);
+    if (snapshot != null) {
+      // Drops a cover load still in flight for the previous bind.
+      coverUrl = null;
+      setCoverBitmap(snapshot);
+      return;
+    }
+    showCover(cover);
+  }
+
+  /** Keeps a downscaled copy of the frame on screen for a later re-bind of the same source. */
+  public void captureSnapshot(@Nullable String snapshotKey) {
+    if (snapshotKey == null
+        || !RNSnapshotCache.isEnabled()
+        || Looper.myLooper() != Looper.getMainLooper()) {
+      return;
+    }
+    TextureView textureView = findTextureView(itemView);
+    if (textureView == null || !textureView.isAvailable()) {
+      return;
+    }
+    int width = textureView.getWidth();
+    int height = textureView.getHeight();
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    float scale = Math.min(1f, (float) RNSnapshotCache.MAX_EDGE / Math.max(width, height));
+    Bitmap bitmap =
+        textureView.getBitmap(
+            Math.max(1, Math.round(width * scale)), Math.max(1, Math.round(height * scale)));
+    if (bitmap != null) {
+      RNSnapshotCache.put(snapshotKey, bitmap);
+    }
+  }
+
+  @Nullable
+  private static TextureView findTextureView(View view) {
+    if (view instanceof TextureView) {
+      return (TextureView) view;
+    }
+    if (view instanceof ViewGroup) {
+      ViewGroup group = (ViewGroup) view;
+      for (int i = 0; i < group.getChildCount(); i++) {
+        TextureView found = findTextureView(group.getChildAt(i));
+        if (found != null) {
+          return found;
+        }
+      }
+    }
+    return null;
+  }
+
+  /** Shows the cached cover right away, or as soon as it is loaded if the frame isn't up yet. */
+  public void showCover(@Nullable String url) {
+    if (TextUtils.isEmpty(url)) {
+      hideCover();
+      return;
+    }
+    if (url.equals(coverUrl) && coverView.getVisibility() == View.VISIBLE) {
+      return;
+    }
+    coverUrl = url;
+    Bitmap cached = RNCoverCache.get(url);
+    if (cached != null) {
+      setCoverBitmap(cached);
+      return;
+    }
+    coverView.setImageDrawable(null);
+    coverView.setVisibility(View.GONE);
+    RNCoverCache.load(
+        url,
+        (loadedUrl, bitmap) -> {
+          if (bitmap != null && loadedUrl.equals(coverUrl)) {
+            setCoverBitmap(bitmap);
+          }
+        });
+  }
+
+  private void setCoverBitmap(Bitmap bitmap) {
+    coverView.setImageBitmap(bitmap);
+    coverView.setVisibility(View.VISIBLE);
+  }
+
+  /** The first frame of {@code sourceKey} is on screen; drops the placeholder. */
+  public void onFirstFrameRendered(@Nullable String sourceKey) {
+    renderedKey = sourceKey;
+    hideCover();
+  }
+
+  /** Drops the placeholder; a late cover load is dropped as well. */
+  public void hideCover() {
+    coverUrl = null;
+    coverView.setVisibility(View.GONE);
+    coverView.setImageDrawable(null);
   }
 
   public void updateVideoSize(int width, int height) {
-    if (width > 0 && height > 0) {
-      videoWidth = width;
-      videoHeight = height;
+    if (width <= 0 || height <= 0 || (width == videoWidth && height == videoHeight)) {
+      return;
     }
+    videoWidth = width;
+    videoHeight = height;
     applyCurrentResizeMode();
   }
 
@@ -86,8 +303,12 @@ import com.txplayer.rnuiplayer.player.event.RNVodController;
     } else {
       renderContainer.resetAspectRatio();
     }
+    // Both setters only request a layout when the value actually changed.
     renderContainer.setResizeMode(resizeMode);
-    renderContainer.requestLayout();
+    coverView.setScaleType(
+        resizeMode == AspectRatioFrameLayout.RESIZE_MODE_FILL
+            ? ImageView.ScaleType.CENTER_CROP
+            : ImageView.ScaleType.FIT_CENTER);
   }
 
   public void setVideoWidthProp(int width) {
@@ -123,14 +344,74 @@ import com.txplayer.rnuiplayer.player.event.RNVodController;
     renderContainer.resetAspectRatio();
   }
 
+  /** Records the controller that bound or pre-bound this view; replaces the previous owner. */
+  public void setOwner(int controllerId, int index, @Nullable ReleaseListener listener) {
+    ownerControllerId = controllerId;
+    ownerIndex = index;
+    releaseListener = listener;
+  }
+
+  public boolean isOwnedBy(int controllerId, int index) {
+    return ownerControllerId == controllerId && ownerIndex == index;
+  }
+
+  private void notifyReleased() {
+    ReleaseListener listener = releaseListener;
+    releaseListener = null;
+    ownerControllerId = -1;
+    ownerIndex = -1;
+    if (listener != null) {
+      listener.onViewReleased(getId());
+    }
+  }
+
   public void dispose() {
+    notifyReleased();
+    releaseFrameType();
     vodController.onShortVideoDestroyed();
     itemView.onViewDestroyed();
-    subtitleView.setVisibility(View.GONE);
+    releaseSubtitleView();
+    hideCover();
+    renderedKey = null;
     resetVideoSize();
+    int viewTag = getId();
+    detachFromJs();
+    RNViewRegistry.onDisposed(this, viewTag);
+  }
+
+  /**
+   * Puts the view back into the state of a fresh instance for {@link RNItemViewPool}: the player
+   * is detached but the display surface is kept for the next bind.
+   */
+  void recycle() {
+    notifyReleased();
+    releaseFrameType();
+    vodController.resetForReuse();
+    itemView.onViewRecycled();
+    // Applied with the next mount's props, so a reused view is rebuilt at most once.
+    requestedRenderViewType = TUIConstants.RenderViewType.TEXTURE_VIEW;
+    releaseSubtitleView();
+    hideCover();
+    renderedKey = null;
+    resetVideoSize();
+    resizeMode = AspectRatioFrameLayout.RESIZE_MODE_FIT;
+    applyCurrentResizeMode();
+    detachFromJs();
+    setId(View.NO_ID);
+  }
+
+  /** Destroys a pooled view that will not be reused. */
+  void destroy() {
+    itemView.onViewDestroyed();
+    // Pooled views have no id any more; leak reports name the tag they were last mounted with.
+    RNViewRegistry.onDisposed(this, lastViewTag);
+  }
+
+  private void detachFromJs() {
     WritableMap params = TxplayerEventDispatcher.createParams();
     params.putInt("viewTag", getId());
-    RNViewRegistry.unregister(getId());
+    RNViewRegistry.unregister(getId(), this);
+    RNEventRegistry.clear(getId());
     TxplayerEventDispatcher.emit(RNConstant.EVENT_VIEW_DISPOSED, params);
   }
 
@@ -138,8 +419,11 @@ import com.txplayer.rnuiplayer.player.event.RNVodController;
   public void setId(int id) {
     int oldId = getId();
     super.setId(id);
+    if (id != View.NO_ID) {
+      lastViewTag = id;
+    }
     if (oldId != id) {
-      RNViewRegistry.unregister(oldId);
+      RNViewRegistry.unregister(oldId, this);
       RNViewRegistry.register(id, this);
     }
   }
@@ -1,31 +1,207 @@
 package com.txplayer.rnuiplayer.view;
 
+import android.os.SystemClock;
+import android.util.SparseArray;
+
 import androidx.annotation.Nullable;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.tencent.qcloud.tuiplayer.core.tools.TUIPlayerLog;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.WeakHashMap;
 
+/**
+ * viewTag → view lookup. Views are held weakly so a view whose {@code dispose()} never ran (React
+ * reload, failed unmount) can still be collected. Disposed views stay tracked weakly as well: one
+ * that is still reachable {@link #LEAK_GRACE_MS} after its dispose is reported as leaked. Entries
+ * of collected views are dropped on the next dispose through a reference queue. Every view also
+ * carries a lifecycle state (created, registered, bound, disposed), counted in the stats.
+ */
 public final class RNViewRegistry {
 
-  private static final ConcurrentMap<Integer, RNShortVideoItemView> VIEW_MAP =
-      new ConcurrentHashMap<>();
+  private static final String TAG = "RNViewRegistry";
+
+  /** Constructed or pooled, without a viewTag. */
+  static final int STATE_CREATED = 0;
+  static final int STATE_REGISTERED = 1;
+  static final int STATE_BOUND = 2;
+  static final int STATE_DISPOSED = 3;
+
+  /** Time a disposed view gets to become unreachable; read stats after a GC in soak tests. */
+  static final long LEAK_GRACE_MS = 30_000L;
+
+  private static final class Entry {
+    final WeakReference<RNShortVideoItemView> view;
+
+    Entry(RNShortVideoItemView view) {
+      this.view = new WeakReference<>(view);
+    }
+  }
+
+  private static final class Disposed extends WeakReference<RNShortVideoItemView> {
+    final int viewTag;
+    final long disposedAt;
+    boolean reported;
+
+    Disposed(RNShortVideoItemView view, int viewTag) {
+      super(view, COLLECTED);
+      this.viewTag = viewTag;
+      this.disposedAt = SystemClock.elapsedRealtime();
+    }
+  }
+
+  private static final SparseArray<Entry> VIEWS = new SparseArray<>();
+  private static final List<Disposed> DISPOSED = new ArrayList<>();
+  private static final ReferenceQueue<RNShortVideoItemView> COLLECTED = new ReferenceQueue<>();
+  /** Lifecycle state per view; weak keys, so collected views drop out on their own. */
+  private static final WeakHashMap<RNShortVideoItemView, Integer> STATES = new WeakHashMap<>();
+  private static long created = 0;
+  private static long disposed = 0;
+  private static long collectedUndisposed = 0;
 
   private RNViewRegistry() {}
 
-  public static void register(int id, RNShortVideoItemView view) {
+  static synchronized void onCreated(RNShortVideoItemView view) {
+    created++;
+    STATES.put(view, STATE_CREATED);
+  }
+
+  public static synchronized void register(int id, RNShortVideoItemView view) {
     if (id != android.view.View.NO_ID) {
-      VIEW_MAP.put(id, view);
+      VIEWS.put(id, new Entry(view));
+      moveTo(view, STATE_REGISTERED);
     }
   }
 
-  public static void unregister(int id) {
-    if (id != android.view.View.NO_ID) {
-      VIEW_MAP.remove(id);
+  /** Removes {@code id} only while it still maps to {@code view}. */
+  public static synchronized void unregister(int id, RNShortVideoItemView view) {
+    if (id == android.view.View.NO_ID) {
+      return;
+    }
+    Entry entry = VIEWS.get(id);
+    if (entry != null && entry.view.get() == view) {
+      VIEWS.remove(id);
+      moveTo(view, STATE_CREATED);
+    }
+  }
+
+  /** Disposed is final: a disposed view never goes back to another state. */
+  private static void moveTo(RNShortVideoItemView view, int state) {
+    Integer current = STATES.get(view);
+    if (current == null || current != STATE_DISPOSED) {
+      STATES.put(view, state);
     }
   }
 
   @Nullable
-  public static RNShortVideoItemView get(int id) {
-    return VIEW_MAP.get(id);
+  public static synchronized RNShortVideoItemView get(int id) {
+    Entry entry = VIEWS.get(id);
+    if (entry == null) {
+      return null;
+    }
+    RNShortVideoItemView view = entry.view.get();
+    if (view == null) {
+      VIEWS.remove(id);
+      collectedUndisposed++;
+    }
+    return view;
+  }
+
+  static synchronized void setBound(int id, boolean bound) {
+    Entry entry = VIEWS.get(id);
+    RNShortVideoItemView view = entry != null ? entry.view.get() : null;
+    if (view != null) {
+      moveTo(view, bound ? STATE_BOUND : STATE_REGISTERED);
+    }
+  }
+
+  /** The view is gone for good; from here on it should become unreachable. */
+  static synchronized void onDisposed(RNShortVideoItemView view, int id) {
+    unregister(id, view);
+    STATES.put(view, STATE_DISPOSED);
+    disposed++;
+    pruneCollected();
+    DISPOSED.add(new Disposed(view, id));
+  }
+
+  /** Drops disposed entries whose view has been collected since the last prune. */
+  private static void pruneCollected() {
+    if (COLLECTED.poll() == null) {
+      return;
+    }
+    while (COLLECTED.poll() != null) {
+      // Drained; the sweep below removes every cleared entry at once.
+    }
+    Iterator<Disposed> iterator = DISPOSED.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().get() == null) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private static int countLeaks(@Nullable WritableArray leakedTags) {
+    long now = SystemClock.elapsedRealtime();
+    int leaked = 0;
+    Iterator<Disposed> iterator = DISPOSED.iterator();
+    while (iterator.hasNext()) {
+      Disposed entry = iterator.next();
+      if (entry.get() == null) {
+        iterator.remove();
+        continue;
+      }
+      if (now - entry.disposedAt < LEAK_GRACE_MS) {
+        continue;
+      }
+      leaked++;
+      if (leakedTags != null) {
+        leakedTags.pushInt(entry.viewTag);
+      }
+      if (!entry.reported) {
+        entry.reported = true;
+        TUIPlayerLog.w(TAG, "view still reachable after dispose, viewTag:" + entry.viewTag);
+      }
+    }
+    return leaked;
+  }
+
+  public static synchronized WritableMap getStats() {
+    int live = 0;
+    for (int i = VIEWS.size() - 1; i >= 0; i--) {
+      Entry entry = VIEWS.valueAt(i);
+      if (entry.view.get() == null) {
+        VIEWS.removeAt(i);
+        collectedUndisposed++;
+        continue;
+      }
+      live++;
+    }
+    int[] byState = new int[STATE_DISPOSED + 1];
+    for (Integer state : STATES.values()) {
+      byState[state]++;
+    }
+    WritableMap states = Arguments.createMap();
+    states.putInt("created", byState[STATE_CREATED]);
+    states.putInt("registered", byState[STATE_REGISTERED]);
+    states.putInt("bound", byState[STATE_BOUND]);
+    states.putInt("disposed", byState[STATE_DISPOSED]);
+    WritableArray leakedTags = Arguments.createArray();
+    WritableMap stats = Arguments.createMap();
+    stats.putDouble("created", created);
+    stats.putInt("liveViews", live);
+    stats.putInt("boundViews", byState[STATE_BOUND]);
+    stats.putDouble("disposed", disposed);
+    stats.putInt("leakedViews", countLeaks(leakedTags));
+    stats.putArray("leakedViewTags", leakedTags);
+    stats.putDouble("collectedUndisposed", collectedUndisposed);
+    stats.putMap("states", states);
+    return stats;
   }
 }
@@ -0,0 +1,101 @@
+package com.txplayer.rnuiplayer.player;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RNModelWindowTest {
+
+  @Test
+  public void disabledWindowEvictsNothing() {
+    RNModelWindow window = new RNModelWindow();
+    window.setRadius(0, 20);
+    assertFalse(window.isEnabled());
+    assertArrayEquals(new int[0], window.collectEvictions(10));
+  }
+
+  @Test
+  public void radiusIsRaisedToTheMinimum() {
+    RNModelWindow window = new RNModelWindow();
+    window.setRadius(1, 10);
+    assertEquals(RNModelWindow.MIN_RADIUS, window.getRadius());
+  }
+
+  @Test
+  public void evictsFullModelsOnBothSidesOfTheWindow() {
+    RNModelWindow window = new RNModelWindow();
+    window.setRadius(3, 12);
+
+    assertArrayEquals(new int[] {0, 1, 9, 10, 11}, window.collectEvictions(5));
+    assertEquals(7, window.getFullCount());
+    assertEquals(5, window.getStubbedCount());
+    assertFalse(window.isFull(0));
+    assertTrue(window.isFull(2));
+  }
+
+  @Test
+  public void evictionsAreReportedOnce() {
+    RNModelWindow window = new RNModelWindow();
+    window.setRadius(3, 12);
+    window.collectEvictions(5);
+    assertArrayEquals(new int[0], window.collectEvictions(5));
+    assertArrayEquals(new int[] {2, 3}, window.collectEvictions(7));
+  }
+
+  @Test
+  public void stubsInsideTheWindowAreRequestedOnce() {
+    RNModelWindow window = new RNModelWindow();
+    window.setRadius(3, 12);
+    window.collectEvictions(0);
+
+    assertArrayEquals(new int[] {4, 6}, window.collectRequest(3, 12, 0));
+    assertNull(window.collectRequest(3, 12, 0));
+    assertEquals(1, window.getRequestCount());
+  }
+
+  @Test
+  public void unansweredRequestsAreAskedAgainAfterTimeout() {
+    RNModelWindow window = new RNModelWindow();
+    window.setRadius(3, 12);
+    window.collectEvictions(0);
+    window.collectRequest(3, 12, 0);
+
+    assertNull(window.collectRequest(3, 12, RNModelWindow.REQUEST_TIMEOUT_MS - 1));
+    assertArrayEquals(
+        new int[] {4, 6}, window.collectRequest(3, 12, RNModelWindow.REQUEST_TIMEOUT_MS));
+    assertEquals(1, window.getExpiredCount());
+  }
+
+  @Test
+  public void requestsLeavingTheWindowAreForgotten() {
+    RNModelWindow window = new RNModelWindow();
+    window.setRadius(3, 20);
+    window.collectEvictions(0);
+    assertArrayEquals(new int[] {4, 6}, window.collectRequest(3, 20, 0));
+
+    window.collectEvictions(12);
+    window.collectEvictions(3);
+    assertArrayEquals(new int[] {0, 6}, window.collectRequest(3, 20, 0));
+    assertEquals(0, window.getExpiredCount());
+  }
+
+  @Test
+  public void insertAndRemoveShiftTrackedIndices() {
+    RNModelWindow window = new RNModelWindow();
+    window.setRadius(3, 4);
+    window.onInserted(1, 2);
+    assertTrue(window.isFull(0));
+    assertFalse(window.isFull(1));
+    assertTrue(window.isFull(3));
+    assertTrue(window.isFull(5));
+
+    window.onRemoved(0, 3);
+    assertTrue(window.isFull(0));
+    assertTrue(window.isFull(2));
+    assertFalse(window.isFull(3));
+  }
+}
@@ -0,0 +1,75 @@
+package com.txplayer.rnuiplayer.player;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RNPreRenderWindowTest {
+
+  @Test
+  public void defaultWindowCoversTwoEachWayIncludingCurrent() {
+    RNPreRenderWindow window = new RNPreRenderWindow();
+    assertTrue(window.inWindow(5, 5));
+    assertTrue(window.inWindow(7, 5));
+    assertTrue(window.inWindow(3, 5));
+    assertFalse(window.inWindow(8, 5));
+    assertFalse(window.inWindow(2, 5));
+  }
+
+  @Test
+  public void flingKeepsOnlyOneAheadInScrollDirection() {
+    RNPreRenderWindow window = new RNPreRenderWindow();
+    assertTrue(window.update(-RNPreRenderWindow.FLING_VELOCITY));
+    assertEquals(-1, window.getDirection());
+    assertTrue(window.inWindow(10, 10));
+    assertTrue(window.inWindow(9, 10));
+    assertFalse(window.inWindow(8, 10));
+    assertFalse(window.inWindow(11, 10));
+  }
+
+  @Test
+  public void updateReportsOnlyRealChanges() {
+    RNPreRenderWindow window = new RNPreRenderWindow();
+    assertTrue(window.update(0f));
+    assertFalse(window.update(0.1f));
+    assertTrue(window.update(1f));
+  }
+
+  @Test
+  public void reconcileStartsAndCancelsOnWindowEdges() {
+    RNPreRenderWindow window = new RNPreRenderWindow();
+    assertTrue(window.onPreBind(100, 1, 0));
+    assertFalse(window.onPreBind(101, 4, 0));
+
+    assertArrayEquals(new int[0], window.reconcile(0));
+    assertArrayEquals(new int[] {101, 4, 1}, window.reconcile(2));
+    assertArrayEquals(new int[] {100, 1, 0}, window.reconcile(4));
+    assertEquals(1, window.getCancelledCount());
+  }
+
+  @Test
+  public void removedViewsAreNoLongerReconciled() {
+    RNPreRenderWindow window = new RNPreRenderWindow();
+    window.onPreBind(100, 1, 0);
+    window.onPreBind(101, 2, 0);
+    window.remove(100);
+    window.onBind(101);
+
+    assertArrayEquals(new int[0], window.getViewTags());
+    assertEquals(-1, window.viewTagAt(1));
+    assertArrayEquals(new int[0], window.reconcile(10));
+  }
+
+  @Test
+  public void viewTagAtFollowsTheLatestPreBind() {
+    RNPreRenderWindow window = new RNPreRenderWindow();
+    window.onPreBind(100, 1, 0);
+    window.onPreBind(100, 2, 0);
+    assertEquals(-1, window.viewTagAt(1));
+    assertEquals(100, window.viewTagAt(2));
+    assertEquals(2, window.indexOf(100));
+  }
+}
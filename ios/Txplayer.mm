@@ -8,6 +8,7 @@
 #import "RNShortVideoView.h"
 #import "RNTransformer.h"
 #import "RNViewRegistry.h"
+#import "RNVodController.h"
 
 @interface Txplayer ()
 
@@ -175,6 +176,173 @@
   resolve(nil);
 }
 
+// The iOS short controller has no in-place model editing; a silent no-op would leave JS and
+// native indices out of sync, so these reject and callers fall back to setModels.
+- (void)shortControllerReplaceModels:(double)controllerId
+                               index:(double)index
+                             sources:(NSArray<NSDictionary *> *)sources
+                             resolve:(RCTPromiseResolveBlock)resolve
+                              reject:(RCTPromiseRejectBlock)reject {
+  [self rejectModelEdit:@"replaceModels" controllerId:controllerId reject:reject];
+}
+
+- (void)shortControllerInsertModels:(double)controllerId
+                              index:(double)index
+                            sources:(NSArray<NSDictionary *> *)sources
+                            resolve:(RCTPromiseResolveBlock)resolve
+                             reject:(RCTPromiseRejectBlock)reject {
+  [self rejectModelEdit:@"insertModels" controllerId:controllerId reject:reject];
+}
+
+- (void)shortControllerRemoveModels:(double)controllerId
+                              index:(double)index
+                              count:(double)count
+                            resolve:(RCTPromiseResolveBlock)resolve
+                             reject:(RCTPromiseRejectBlock)reject {
+  [self rejectModelEdit:@"removeModels" controllerId:controllerId reject:reject];
+}
+
+- (void)shortControllerMoveModel:(double)controllerId
+                            from:(double)from
+                              to:(double)to
+                         resolve:(RCTPromiseResolveBlock)resolve
+                          reject:(RCTPromiseRejectBlock)reject {
+  [self rejectModelEdit:@"moveModel" controllerId:controllerId reject:reject];
+}
+
+- (void)shortControllerReplaceModel:(double)controllerId
+                              index:(double)index
+                             source:(NSDictionary *)source
+                            resolve:(RCTPromiseResolveBlock)resolve
+                             reject:(RCTPromiseRejectBlock)reject {
+  [self rejectModelEdit:@"replaceModel" controllerId:controllerId reject:reject];
+}
+
+- (void)shortControllerSetModelWindow:(double)controllerId
+                               radius:(double)radius
+                          hasProvider:(BOOL)hasProvider
+                              resolve:(RCTPromiseResolveBlock)resolve
+                               reject:(RCTPromiseRejectBlock)reject {
+  RNShortController *controller = [self controllerForId:@(controllerId) reject:reject];
+  if (!controller) {
+    return;
+  }
+  // Every model stays fully loaded on iOS, which is what a radius of 0 asks for.
+  if (radius <= 0) {
+    resolve(@0);
+    return;
+  }
+  reject(@"E_MODEL_WINDOW_UNSUPPORTED", @"Model windowing is not supported on this platform", nil);
+}
+
+- (void)shortControllerUpdateScrollVelocity:(double)controllerId
+                                   velocity:(double)velocity
+                                    resolve:(RCTPromiseResolveBlock)resolve
+                                     reject:(RCTPromiseRejectBlock)reject {
+  RNShortController *controller = [self controllerForId:@(controllerId) reject:reject];
+  if (!controller) {
+    return;
+  }
+  // No velocity-driven pre-render window on iOS.
+  resolve(nil);
+}
+
+- (void)shortControllerSetScrollState:(double)controllerId
+                                state:(double)state
+                          targetIndex:(double)targetIndex
+                              resolve:(RCTPromiseResolveBlock)resolve
+                               reject:(RCTPromiseRejectBlock)reject {
+  RNShortController *controller = [self controllerForId:@(controllerId) reject:reject];
+  if (!controller) {
+    return;
+  }
+  // Preloading is not paused during scrolls on iOS.
+  resolve(nil);
+}
+
+- (void)shortControllerBindWindow:(double)controllerId
+                          entries:(NSArray<NSDictionary *> *)entries
+                          resolve:(RCTPromiseResolveBlock)resolve
+                           reject:(RCTPromiseRejectBlock)reject {
+  RNShortController *controller = [self controllerForId:@(controllerId) reject:reject];
+  if (!controller) {
+    return;
+  }
+  // Same order as Android: the bound view first, then the pre-binds in the order given.
+  NSMutableArray<NSNumber *> *results = [NSMutableArray arrayWithCapacity:entries.count];
+  for (NSUInteger i = 0; i < entries.count; i++) {
+    [results addObject:@(NO)];
+  }
+  for (NSInteger role = 0; role <= 1; role++) {
+    [entries enumerateObjectsUsingBlock:^(NSDictionary *entry, NSUInteger idx, BOOL *stop) {
+      if (![entry isKindOfClass:[NSDictionary class]] ||
+          [entry[@"role"] integerValue] != role) {
+        return;
+      }
+      NSNumber *viewTag = @([entry[@"viewTag"] integerValue]);
+      if (![RNViewRegistry viewForTag:viewTag]) {
+        return;
+      }
+      NSInteger index = [entry[@"index"] integerValue];
+      if (role == 0) {
+        [controller bindVideoView:viewTag index:index];
+      } else {
+        [controller preBindVideo:viewTag index:index];
+      }
+      results[idx] = @(YES);
+    }];
+  }
+  resolve(results);
+}
+
+- (void)shortControllerSetEventFilter:(double)controllerId
+                               filter:(NSDictionary *)filter
+                              resolve:(RCTPromiseResolveBlock)resolve
+                               reject:(RCTPromiseRejectBlock)reject {
+  RNShortController *controller = [self controllerForId:@(controllerId) reject:reject];
+  if (!controller) {
+    return;
+  }
+  // iOS emits every event; filtering happens in JS.
+  resolve(nil);
+}
+
+- (void)shortControllerSetResolveOnFirstChunk:(double)controllerId
+                                      enabled:(BOOL)enabled
+                                      resolve:(RCTPromiseResolveBlock)resolve
+                                       reject:(RCTPromiseRejectBlock)reject {
+  RNShortController *controller = [self controllerForId:@(controllerId) reject:reject];
+  if (!controller) {
+    return;
+  }
+  // setModels is not chunked on iOS, so it always resolves once every model is written.
+  resolve(nil);
+}
+
+- (void)shortControllerSetAdaptiveStrategy:(double)controllerId
+                                   enabled:(BOOL)enabled
+                                   resolve:(RCTPromiseResolveBlock)resolve
+                                    reject:(RCTPromiseRejectBlock)reject {
+  RNShortController *controller = [self controllerForId:@(controllerId) reject:reject];
+  if (!controller) {
+    return;
+  }
+  // The strategy set through setVodStrategy is used as is.
+  resolve(nil);
+}
+
+- (void)shortControllerSetActive:(double)controllerId
+                          active:(BOOL)active
+                         resolve:(RCTPromiseResolveBlock)resolve
+                          reject:(RCTPromiseRejectBlock)reject {
+  RNShortController *controller = [self controllerForId:@(controllerId) reject:reject];
+  if (!controller) {
+    return;
+  }
+  // Controllers are never parked on iOS, so every controller stays active.
+  resolve(nil);
+}
+
 - (void)vodPlayerStartPlay:(double)viewTag
                     source:(NSDictionary *)source
                    resolve:(RCTPromiseResolveBlock)resolve
@@ -379,6 +547,131 @@
   resolve(nil);
 }
 
+- (NSNumber *)vodPlayerGetCurrentPlayTimeSync:(double)viewTag {
+  RNShortVideoView *view = [self videoViewForTag:@(viewTag) reject:nil];
+  return view ? [view.vodController currentPlayTime] : @0;
+}
+
+- (NSNumber *)vodPlayerGetDurationSync:(double)viewTag {
+  RNShortVideoView *view = [self videoViewForTag:@(viewTag) reject:nil];
+  return view ? [view.vodController duration] : @0;
+}
+
+- (NSNumber *)vodPlayerIsPlayingSync:(double)viewTag {
+  RNShortVideoView *view = [self videoViewForTag:@(viewTag) reject:nil];
+  return view ? [view.vodController isPlaying] : @(NO);
+}
+
+- (void)vodPlayerExecute:(double)viewTag
+                commands:(NSArray<NSDictionary *> *)commands
+                 resolve:(RCTPromiseResolveBlock)resolve
+                  reject:(RCTPromiseRejectBlock)reject {
+  RNShortVideoView *view = [self videoViewForTag:@(viewTag) reject:reject];
+  if (!view) {
+    return;
+  }
+  NSMutableArray *results = [NSMutableArray arrayWithCapacity:commands.count];
+  for (id command in commands) {
+    NSMutableDictionary *result = [NSMutableDictionary dictionary];
+    NSString *error = nil;
+    @try {
+      error = [command isKindOfClass:[NSDictionary class]]
+                  ? [self applyVodCommand:command toController:view.vodController result:result]
+                  : @"command must be an object";
+    } @catch (NSException *exception) {
+      error = exception.reason ?: exception.name;
+    }
+    result[@"ok"] = @(error == nil);
+    if (error) {
+      result[@"error"] = error;
+    }
+    [results addObject:result];
+  }
+  resolve(results);
+}
+
+- (void)vodPlayerSetProgressConfig:(double)viewTag
+                            config:(NSDictionary *)config
+                           resolve:(RCTPromiseResolveBlock)resolve
+                            reject:(RCTPromiseRejectBlock)reject {
+  RNShortVideoView *view = [self videoViewForTag:@(viewTag) reject:reject];
+  if (!view) {
+    return;
+  }
+  // Progress keeps the SDK's own onPlayProgress cadence on iOS.
+  resolve(nil);
+}
+
+- (void)vodPlayerSetEventFilter:(double)viewTag
+                         filter:(NSDictionary *)filter
+                        resolve:(RCTPromiseResolveBlock)resolve
+                         reject:(RCTPromiseRejectBlock)reject {
+  RNShortVideoView *view = [self videoViewForTag:@(viewTag) reject:reject];
+  if (!view) {
+    return;
+  }
+  // iOS emits every event; filtering happens in JS.
+  resolve(nil);
+}
+
+// The tuning and diagnostics calls below only drive Android-side machinery (event batching,
+// controller parking, caches, frame sampling). iOS accepts them so shared JS code runs unchanged.
+- (void)setViewEventMask:(double)viewTag
+                    mask:(double)mask
+                 resolve:(RCTPromiseResolveBlock)resolve
+                  reject:(RCTPromiseRejectBlock)reject {
+  resolve(nil);
+}
+
+- (void)setEventBatchConfig:(NSDictionary *)config
+                    resolve:(RCTPromiseResolveBlock)resolve
+                     reject:(RCTPromiseRejectBlock)reject {
+  resolve(nil);
+}
+
+- (void)setEventPayloadMode:(double)mode
+                    resolve:(RCTPromiseResolveBlock)resolve
+                     reject:(RCTPromiseRejectBlock)reject {
+  resolve(nil);
+}
+
+- (void)setMaxWarmControllers:(double)maxIdle
+                      resolve:(RCTPromiseResolveBlock)resolve
+                       reject:(RCTPromiseRejectBlock)reject {
+  resolve(nil);
+}
+
+- (void)setMemoryBudget:(double)bytes
+                resolve:(RCTPromiseResolveBlock)resolve
+                 reject:(RCTPromiseRejectBlock)reject {
+  resolve(nil);
+}
+
+- (void)setSnapshotCacheConfig:(BOOL)enabled
+                      maxBytes:(double)maxBytes
+                       resolve:(RCTPromiseResolveBlock)resolve
+                        reject:(RCTPromiseRejectBlock)reject {
+  resolve(nil);
+}
+
+- (void)setViewPoolSize:(double)max
+                resolve:(RCTPromiseResolveBlock)resolve
+                 reject:(RCTPromiseRejectBlock)reject {
+  resolve(nil);
+}
+
+- (void)setFrameMonitorEnabled:(BOOL)enabled
+                       resolve:(RCTPromiseResolveBlock)resolve
+                        reject:(RCTPromiseRejectBlock)reject {
+  resolve(nil);
+}
+
+- (void)getPerformanceStats:(RCTPromiseResolveBlock)resolve
+                     reject:(RCTPromiseRejectBlock)reject {
+  // No counters are collected on iOS.
+  resolve(@{});
+}
+
 - (void)addListener:(NSString *)event {
   // Required for RN event emitter
 }
@@ -406,6 +699,103 @@
   return view;
 }
 
+- (void)rejectModelEdit:(NSString *)name
+           controllerId:(double)controllerId
+                 reject:(RCTPromiseRejectBlock)reject {
+  if (![self controllerForId:@(controllerId) reject:reject]) {
+    return;
+  }
+  reject(@"E_MODEL_EDIT_UNSUPPORTED",
+         [NSString stringWithFormat:@"%@ is not supported on this platform, use setModels", name],
+         nil);
+}
+
+// Applies one vodPlayerExecute command, mirroring RNVodCommands on Android. Returns the error
+// message, or nil when the command succeeded.
+- (NSString *)applyVodCommand:(NSDictionary *)command
+                 toController:(RNVodController *)controller
+                       result:(NSMutableDictionary *)result {
+  NSString *op = command[@"op"];
+  if (![op isKindOfClass:[NSString class]]) {
+    return @"missing op";
+  }
+  id value = command[@"value"];
+  id flag = command[@"flag"];
+  BOOL hasValue = [value isKindOfClass:[NSNumber class]];
+  BOOL hasFlag = [flag isKindOfClass:[NSNumber class]];
+  NSString *needsValue = [NSString stringWithFormat:@"%@ needs a numeric value", op];
+  NSString *needsFlag = [NSString stringWithFormat:@"%@ needs a boolean flag", op];
+
+  if ([op isEqualToString:@"startPlay"]) {
+    NSDictionary *source = command[@"source"];
+    if (![source isKindOfClass:[NSDictionary class]]) {
+      return @"startPlay needs a source";
+    }
+    [controller startPlayWithModel:[RNTransformer videoModelFromDictionary:source]];
+  } else if ([op isEqualToString:@"pause"]) {
+    [controller pause];
+  } else if ([op isEqualToString:@"resume"]) {
+    [controller resume];
+  } else if ([op isEqualToString:@"seekTo"]) {
+    if (!hasValue) {
+      return needsValue;
+    }
+    [controller seekToTime:[value doubleValue]];
+  } else if ([op isEqualToString:@"setRate"]) {
+    if (!hasValue) {
+      return needsValue;
+    }
+    [controller setRate:[value doubleValue]];
+  } else if ([op isEqualToString:@"setMute"]) {
+    if (!hasFlag) {
+      return needsFlag;
+    }
+    [controller setMute:[flag boolValue]];
+  } else if ([op isEqualToString:@"setMirror"]) {
+    if (!hasFlag) {
+      return needsFlag;
+    }
+    [controller setMirror:[flag boolValue]];
+  } else if ([op isEqualToString:@"setRenderMode"]) {
+    if (!hasValue) {
+      return needsValue;
+    }
+    if (![controller respondsToSelector:@selector(setRenderMode:)]) {
+      return @"Render mode control is not supported on this platform";
+    }
+    [controller setRenderMode:[value integerValue]];
+  } else if ([op isEqualToString:@"setStringOption"]) {
+    id text = command[@"text"];
+    [controller setStringOptionWithKey:command[@"key"] value:text ? [text description] : @""];
+  } else if ([op isEqualToString:@"selectSubtitle"]) {
+    if (!hasValue) {
+      return needsValue;
+    }
+    if (![controller respondsToSelector:@selector(selectSubtitleTrack:)]) {
+      return @"Subtitle selection is not supported on this platform";
+    }
+    [controller selectSubtitleTrack:[value integerValue]];
+  } else if ([op isEqualToString:@"switchResolution"]) {
+    if (!hasValue) {
+      return needsValue;
+    }
+    id switchType = command[@"switchType"];
+    [controller switchResolution:[value longValue]
+                      switchType:[switchType isKindOfClass:[NSNumber class]]
+                                     ? [switchType integerValue]
+                                     : 0];
+  } else if ([op isEqualToString:@"getDuration"]) {
+    result[@"value"] = [controller duration];
+  } else if ([op isEqualToString:@"getCurrentPlayTime"]) {
+    result[@"value"] = [controller currentPlayTime];
+  } else if ([op isEqualToString:@"isPlaying"]) {
+    result[@"flag"] = [controller isPlaying];
+  } else {
+    return [NSString stringWithFormat:@"unknown op: %@", op];
+  }
+  return nil;
+}
+
 - (std::shared_ptr<facebook::react::TurboModule>)getTurboModule:
     (const facebook::react::ObjCTurboModule::InitParams &)params {
   return std::make_shared<facebook::react::NativeTxplayerSpecJSI>(params);
@@ -34,6 +34,12 @@ export type NativeVodStrategy = {
   enableSuperResolution: boolean;
 };
 
+export type NativeBindEntry = {
+  viewTag: number;
+  index: number;
+  role: number;
+};
+
 export type NativeBitrateItem = {
   index: number;
   width: number;
@@ -41,6 +47,219 @@ export type NativeBitrateItem = {
   bitrate: number;
 };
 
+export type NativeEventFilter = {
+  mode: number;
+  codes: number[];
+};
+
+export type NativeVodCommand = {
+  op: string;
+  value?: number;
+  flag?: boolean;
+  text?: string;
+  key?: unknown;
+  switchType?: number;
+  source?: NativeVodSource;
+};
+
+export type NativeVodCommandResult = {
+  ok: boolean;
+  value?: number;
+  flag?: boolean;
+  error?: string;
+};
+
+export type NativeProgressConfig = {
+  intervalMs: number;
+  minDeltaMs: number;
+};
+
+export type NativeEventBatchConfig = {
+  enabled: boolean;
+  flushIntervalMs: number;
+};
+
+export type NativeEventDispatcherStats = {
+  batchingEnabled: boolean;
+  flushIntervalMs: number;
+  enqueued: number;
+  merged: number;
+  flushedBatches: number;
+  flushedEvents: number;
+  maxBatchSize: number;
+  pending: number;
+  directEmitted: number;
+};
+
+export type NativeEventSubscriptionStats = {
+  views: number;
+  skipped: number;
+  filtered: number;
+};
+
+export type NativeEventPayloadStats = {
+  mode: number;
+  events: number;
+  /** Map construction calls per payload mode, not measured allocations. */
+  mapCreateCalls: number;
+};
+
+export type NativeModelStats = {
+  total: number;
+  full: number;
+  stubs: number;
+  stubbed: number;
+  requests: number;
+  /** Requests forgotten after going unanswered and asked again. */
+  expiredRequests: number;
+};
+
+export type NativeSourceBatchStats = {
+  batches: number;
+  streamedBatches: number;
+  items: number;
+  totalMs: number;
+  lastBatchMs: number;
+  lastBatchSize: number;
+  maxBatchMs: number;
+};
+
+export type NativePreRenderStats = {
+  windowSize: number;
+  preRenders: number;
+  skipped: number;
+  cancelled: number;
+};
+
+export type NativeParkingStats = {
+  maxIdle: number;
+  idleWarm: number;
+  hits: number;
+  misses: number;
+  parked: number;
+};
+
+export type NativeMemoryStats = {
+  budgetBytes: number;
+  usedBytes: number;
+  requestedBytes: number;
+  pressure: number;
+  trimLevel: number;
+  trims: number;
+  shrunk: number;
+};
+
+export type NativeAdaptiveStrategyStats = {
+  controllers: number;
+  lowTier: number;
+  highTier: number;
+  speedKBps: number;
+  samples: number;
+  tierChanges: number;
+};
+
+export type NativeCoverCacheStats = {
+  memoryBytes: number;
+  memoryMaxBytes: number;
+  memoryHits: number;
+  diskHits: number;
+  networkLoads: number;
+  failures: number;
+};
+
+export type NativeSnapshotCacheStats = {
+  enabled: boolean;
+  bytes: number;
+  maxBytes: number;
+  captures: number;
+  hits: number;
+  misses: number;
+};
+
+export type NativeViewPoolStats = {
+  size: number;
+  maxSize: number;
+  hits: number;
+  misses: number;
+  recycled: number;
+  discarded: number;
+};
+
+export type NativeFrameTypeStats = {
+  /** UI-thread vsync intervals; these only show UI-thread jank. */
+  frames: number;
+  avgFrameMs: number;
+  maxFrameMs: number;
+  jankyFrames: number;
+  /** RenderThread work per frame from FrameMetrics. */
+  renderFrames: number;
+  avgRenderMs: number;
+  maxRenderMs: number;
+  /** 0 below Android 12. */
+  avgGpuMs: number;
+};
+
+export type NativeFrameStats = {
+  enabled: boolean;
+  /** False when no Activity window was available for FrameMetrics. */
+  renderMetrics: boolean;
+  refreshMs: number;
+  textureView: NativeFrameTypeStats;
+  surfaceView: NativeFrameTypeStats;
+};
+
+export type NativeVideoSizeCacheStats = {
+  entries: number;
+  hits: number;
+  misses: number;
+};
+
+export type NativeViewRegistryStats = {
+  created: number;
+  liveViews: number;
+  boundViews: number;
+  disposed: number;
+  leakedViews: number;
+  leakedViewTags: number[];
+  collectedUndisposed: number;
+  /** Reachable views per lifecycle state; disposed ones are awaiting collection. */
+  states: {
+    created: number;
+    registered: number;
+    bound: number;
+    disposed: number;
+  };
+};
+
+export type NativePlayerCommandStats = {
+  pending: number;
+  maxPending: number;
+  maxViewPending: number;
+  executed: number;
+  avgWaitMs: number;
+  maxWaitMs: number;
+  slowWaits: number;
+};
+
+export type NativePerformanceStats = {
+  eventDispatcher: NativeEventDispatcherStats;
+  subscriptions: NativeEventSubscriptionStats;
+  payload: NativeEventPayloadStats;
+  models: NativeModelStats;
+  sourceBatches: NativeSourceBatchStats;
+  preRender: NativePreRenderStats;
+  parking: NativeParkingStats;
+  memory: NativeMemoryStats;
+  adaptiveStrategy: NativeAdaptiveStrategyStats;
+  covers: NativeCoverCacheStats;
+  snapshots: NativeSnapshotCacheStats;
+  viewPool: NativeViewPoolStats;
+  frames: NativeFrameStats;
+  videoSizes: NativeVideoSizeCacheStats;
+  views: NativeViewRegistryStats;
+  playerCommands: NativePlayerCommandStats;
+};
+
 export interface Spec extends TurboModule {
   setPlayerConfig(config: NativePlayerConfig): Promise<void>;
   setMonetAppInfo(
@@ -57,11 +276,54 @@ export interface Spec extends TurboModule {
     controllerId: number,
     sources: NativeVodSource[]
   ): Promise<number>;
+  shortControllerReplaceModels(
+    controllerId: number,
+    index: number,
+    sources: NativeVodSource[]
+  ): Promise<number>;
+  shortControllerInsertModels(
+    controllerId: number,
+    index: number,
+    sources: NativeVodSource[]
+  ): Promise<number>;
+  shortControllerRemoveModels(
+    controllerId: number,
+    index: number,
+    count: number
+  ): Promise<number>;
+  shortControllerMoveModel(
+    controllerId: number,
+    from: number,
+    to: number
+  ): Promise<number>;
+  shortControllerReplaceModel(
+    controllerId: number,
+    index: number,
+    source: NativeVodSource
+  ): Promise<number>;
+  shortControllerSetModelWindow(
+    controllerId: number,
+    radius: number,
+    hasProvider: boolean
+  ): Promise<number>;
+  shortControllerUpdateScrollVelocity(
+    controllerId: number,
+    velocity: number
+  ): Promise<void>;
+  shortControllerSetScrollState(
+    controllerId: number,
+    state: number,
+    targetIndex: number
+  ): Promise<void>;
   shortControllerBindVideoView(
     controllerId: number,
     viewTag: number,
     index: number
   ): Promise<void>;
+  shortControllerBindWindow(
+    controllerId: number,
+    entries: NativeBindEntry[]
+  ): Promise<boolean[]>;
   shortControllerPreBindVideo(
     controllerId: number,
     viewTag: number,
@@ -71,6 +333,10 @@ export interface Spec extends TurboModule {
     controllerId: number,
     strategy: NativeVodStrategy
   ): Promise<void>;
+  shortControllerSetEventFilter(
+    controllerId: number,
+    filter: NativeEventFilter
+  ): Promise<void>;
   shortControllerStartCurrent(controllerId: number): Promise<number>;
   shortControllerSetVideoLoop(
     controllerId: number,
@@ -81,6 +347,18 @@ export interface Spec extends TurboModule {
     resolution: number,
     switchType: number
   ): Promise<void>;
+  shortControllerSetResolveOnFirstChunk(
+    controllerId: number,
+    enabled: boolean
+  ): Promise<void>;
+  shortControllerSetAdaptiveStrategy(
+    controllerId: number,
+    enabled: boolean
+  ): Promise<void>;
+  shortControllerSetActive(
+    controllerId: number,
+    active: boolean
+  ): Promise<void>;
   shortControllerRelease(controllerId: number): Promise<void>;
   vodPlayerStartPlay(viewTag: number, source: NativeVodSource): Promise<void>;
   vodPlayerPause(viewTag: number): Promise<void>;
@@ -105,7 +383,31 @@ export interface Spec extends TurboModule {
   vodPlayerGetCurrentPlayTime(viewTag: number): Promise<number>;
   vodPlayerSetMirror(viewTag: number, mirror: boolean): Promise<void>;
   vodPlayerIsPlaying(viewTag: number): Promise<boolean>;
+  vodPlayerGetCurrentPlayTimeSync(viewTag: number): number;
+  vodPlayerGetDurationSync(viewTag: number): number;
+  vodPlayerIsPlayingSync(viewTag: number): boolean;
+  vodPlayerExecute(
+    viewTag: number,
+    commands: NativeVodCommand[]
+  ): Promise<NativeVodCommandResult[]>;
+  vodPlayerSetProgressConfig(
+    viewTag: number,
+    config: NativeProgressConfig
+  ): Promise<void>;
+  vodPlayerSetEventFilter(
+    viewTag: number,
+    filter: NativeEventFilter
+  ): Promise<void>;
   vodPlayerRelease(viewTag: number): Promise<void>;
+  setViewEventMask(viewTag: number, mask: number): Promise<void>;
+  setEventBatchConfig(config: NativeEventBatchConfig): Promise<void>;
+  setEventPayloadMode(mode: number): Promise<void>;
+  setMaxWarmControllers(maxIdle: number): Promise<void>;
+  setMemoryBudget(bytes: number): Promise<void>;
+  setSnapshotCacheConfig(enabled: boolean, maxBytes: number): Promise<void>;
+  setViewPoolSize(max: number): Promise<void>;
+  setFrameMonitorEnabled(enabled: boolean): Promise<void>;
+  getPerformanceStats(): Promise<NativePerformanceStats>;
   addListener?(eventName: string): void;
   removeListeners?(count: number): void;
 }
@@ -1,6 +1,10 @@
 import NativeTxplayer from './NativeTxplayer';
-import { serializePlayerConfig } from './types';
-import type { RNPlayerConfig } from './types';
+import { serializeEventBatchConfig, serializePlayerConfig } from './types';
+import type {
+  NativePerformanceStats,
+  RNEventBatchConfig,
+  RNPlayerConfig,
+} from './types';
 
 export async function setTUIPlayerConfig(config: RNPlayerConfig) {
   await NativeTxplayer.setPlayerConfig(serializePlayerConfig(config));
@@ -19,3 +23,67 @@ export async function setMonetAppInfo(
   );
   return;
 }
+
+export async function setEventBatchConfig(config: RNEventBatchConfig) {
+  await NativeTxplayer.setEventBatchConfig(serializeEventBatchConfig(config));
+}
+
+/** Android only: iOS collects no counters and resolves an empty object. */
+export function getPerformanceStats(): Promise<NativePerformanceStats> {
+  return NativeTxplayer.getPerformanceStats();
+}
+
+export async function setViewEventMask(viewTag: number, mask: number) {
+  await NativeTxplayer.setViewEventMask(viewTag, mask);
+}
+
+export async function setEventPayloadMode(mode: number) {
+  await NativeTxplayer.setEventPayloadMode(mode);
+}
+
+/**
+ * Sets how many inactive controllers keep their own players (default 2).
+ * Players are never shared between controllers; beyond the limit the least
+ * recently used ones are parked (players released, models kept) and rebuilt
+ * when used again.
+ */
+export async function setMaxWarmControllers(maxIdle: number) {
+  await NativeTxplayer.setMaxWarmControllers(maxIdle);
+}
+
+/**
+ * Sets the preload memory budget in bytes shared by all controllers. It is
+ * split by activity and strategies shrink when the system is low on memory.
+ * `0` disables the budget; strategies then shrink only on `onTrimMemory`.
+ */
+export async function setMemoryBudget(bytes: number) {
+  await NativeTxplayer.setMemoryBudget(bytes);
+}
+
+/**
+ * Enables the last-frame snapshot cache: a downscaled frame is captured when
+ * a view unbinds and shown at once when the same video comes back, until its
+ * first frame renders. `maxBytes` caps the cache (default 8MB, `0` keeps the
+ * current cap).
+ */
+export async function setSnapshotCacheConfig(enabled: boolean, maxBytes = 0) {
+  await NativeTxplayer.setSnapshotCacheConfig(enabled, maxBytes);
+}
+
+/**
+ * Sets the size of the native player view pool (default 4, `0` disables it).
+ * Unmounted views are reset and pooled, and new cells reuse them instead of
+ * rebuilding their render surface.
+ */
+export async function setViewPoolSize(max: number) {
+  await NativeTxplayer.setViewPoolSize(max);
+}
+
+/**
+ * Enables frame sampling to compare `renderViewType`s. While players are bound
+ * to views of only one type, each frame counts for that type; results are in
+ * `getPerformanceStats().frames`. Counters reset when sampling starts.
+ */
+export async function setFrameMonitorEnabled(enabled: boolean) {
+  await NativeTxplayer.setFrameMonitorEnabled(enabled);
+}
@@ -1,28 +1,110 @@
 import NativeTxplayer from './NativeTxplayer';
-import { getOrCreateVodController } from './TUIVodPlayerController';
+import { TxplayerEventEmitter } from './events';
 import {
+  getOrCreateVodController,
+  type TUIVodPlayerController,
+} from './TUIVodPlayerController';
+import {
+  EVENT_MODELS_FAILED,
+  EVENT_MODELS_REQUESTED,
+  serializeBindEntries,
+  serializeEventFilter,
+  serializeVideoSource,
   serializeVideoSources,
   serializeVodStrategy,
   resolveViewTag,
 } from './types';
 import type {
+  RNBindEntry,
+  RNEventFilter,
+  RNModelProvider,
+  RNModelsFailedListener,
+  RNModelsFailure,
   RNPlayerVodStrategy,
   RNVideoSource,
   RNPlayerViewHandle,
+  RNScrollStateValue,
 } from './types';
 
+type ModelsRequestedPayload = {
+  controllerId: number;
+  start: number;
+  end: number;
+};
+
+const liveControllers = new Map<number, RNPlayerShortController>();
+
+TxplayerEventEmitter.addListener(
+  EVENT_MODELS_REQUESTED,
+  (payload: unknown) => {
+    const data = payload as ModelsRequestedPayload | null;
+    if (!data || typeof data.controllerId !== 'number') {
+      return;
+    }
+    liveControllers
+      .get(data.controllerId)
+      ?.handleModelsRequested(data)
+      .catch((error) => {
+        console.warn('[react-native-tuiplayer] model refill failed', error);
+      });
+  }
+);
+
+type ModelsFailedPayload = RNModelsFailure & { controllerId: number };
+
+TxplayerEventEmitter.addListener(EVENT_MODELS_FAILED, (payload: unknown) => {
+  const data = payload as ModelsFailedPayload | null;
+  if (!data || typeof data.controllerId !== 'number') {
+    return;
+  }
+  liveControllers.get(data.controllerId)?.handleModelsFailed(data);
+});
+
 export class RNPlayerShortController {
   private controllerId?: number;
   private initPromise: Promise<number>;
   private released = false;
+  private modelProvider?: RNModelProvider;
+  private modelWindowRadius = 0;
+  private modelsFailedListener?: RNModelsFailedListener;
 
   constructor() {
     this.initPromise = NativeTxplayer.createShortController().then((id) => {
       this.controllerId = id;
+      if (!this.released) {
+        liveControllers.set(id, this);
+      }
       return id;
     });
   }
 
+  /** @internal Refills a windowed controller from the model provider. */
+  async handleModelsRequested({ start, end }: ModelsRequestedPayload) {
+    const provider = this.modelProvider;
+    if (!provider || this.released) {
+      return;
+    }
+    try {
+      const sources = await provider(start, end);
+      if (sources.length > 0) {
+        await this.replaceModels(start, sources);
+      }
+    } catch (e) {
+      // The native window asks for the range again once the request expires.
+      console.warn('[react-native-tuiplayer] model provider failed', e);
+    }
+  }
+
+  /** @internal Reports a streamed load that failed after resolving. */
+  handleModelsFailed({ loaded, message }: RNModelsFailure) {
+    const listener = this.modelsFailedListener;
+    if (!listener) {
+      console.warn('[react-native-tuiplayer] streamed models failed', message);
+      return;
+    }
+    listener({ loaded, message });
+  }
+
   private async ensureControllerId() {
     if (this.released) {
       throw new Error('RNPlayerShortController has been released');
@@ -49,15 +131,164 @@ export class RNPlayerShortController {
     );
   }
 
+  /**
+   * `insertModels`, `removeModels`, `moveModel`, `replaceModel` and
+   * `replaceModels` edit the list in place on Android; iOS rejects them with
+   * `E_MODEL_EDIT_UNSUPPORTED`, so call `setModels` there instead.
+   */
+  async insertModels(index: number, sources: RNVideoSource[]) {
+    const controllerId = await this.ensureControllerId();
+    return NativeTxplayer.shortControllerInsertModels(
+      controllerId,
+      index,
+      serializeVideoSources(sources)
+    );
+  }
+
+  async removeModels(index: number, count = 1) {
+    const controllerId = await this.ensureControllerId();
+    return NativeTxplayer.shortControllerRemoveModels(
+      controllerId,
+      index,
+      count
+    );
+  }
+
+  async moveModel(from: number, to: number) {
+    const controllerId = await this.ensureControllerId();
+    return NativeTxplayer.shortControllerMoveModel(controllerId, from, to);
+  }
+
+  async replaceModel(index: number, source: RNVideoSource) {
+    const controllerId = await this.ensureControllerId();
+    return NativeTxplayer.shortControllerReplaceModel(
+      controllerId,
+      index,
+      serializeVideoSource(source)
+    );
+  }
+
+  /** Replaces models starting at `index` without disturbing other indices. */
+  async replaceModels(index: number, sources: RNVideoSource[]) {
+    const controllerId = await this.ensureControllerId();
+    return NativeTxplayer.shortControllerReplaceModels(
+      controllerId,
+      index,
+      serializeVideoSources(sources)
+    );
+  }
+
+  /**
+   * Keeps only models within `radius` of the current index fully loaded on
+   * the native side; others shrink to stubs and are requested again through
+   * the model provider, which a positive `radius` requires. `0` disables
+   * windowing. iOS keeps every model loaded and rejects a positive `radius`.
+   */
+  async setModelWindow(radius: number, provider?: RNModelProvider) {
+    if (provider) {
+      this.modelProvider = provider;
+    }
+    if (radius > 0 && !this.modelProvider) {
+      throw new Error('setModelWindow needs a model provider');
+    }
+    const controllerId = await this.ensureControllerId();
+    const result = await NativeTxplayer.shortControllerSetModelWindow(
+      controllerId,
+      radius,
+      this.modelProvider != null
+    );
+    if (result === 0) {
+      this.modelWindowRadius = Math.max(0, radius);
+    }
+    return result;
+  }
+
+  setModelProvider(provider?: RNModelProvider) {
+    if (!provider && this.modelWindowRadius > 0) {
+      throw new Error('disable the model window before clearing its provider');
+    }
+    this.modelProvider = provider;
+  }
+
+  /**
+   * Large (128+ models) `setModels`/`appendModels` calls resolve after every
+   * chunk is written. When enabled they resolve after the first chunk, and a
+   * later failure is reported through `setModelsFailedListener`.
+   */
+  async setResolveOnFirstChunk(enabled: boolean) {
+    const controllerId = await this.ensureControllerId();
+    await NativeTxplayer.shortControllerSetResolveOnFirstChunk(
+      controllerId,
+      enabled
+    );
+  }
+
+  setModelsFailedListener(listener?: RNModelsFailedListener) {
+    this.modelsFailedListener = listener;
+  }
+
+  /**
+   * Reports the list scroll velocity in pages per second, positive towards
+   * higher indices. The native pre-render window narrows on flings and widens
+   * ahead while browsing slowly. Call it on scroll begin, end and momentum end.
+   */
+  async updateScrollVelocity(velocity: number) {
+    const controllerId = await this.ensureControllerId();
+    await NativeTxplayer.shortControllerUpdateScrollVelocity(
+      controllerId,
+      velocity
+    );
+  }
+
+  /**
+   * Reports the list scroll state and target index. Preloading pauses while
+   * dragging or flinging; on `IDLE` playback starts natively right away when
+   * the target index is already pre-bound.
+   */
+  async setScrollState(state: RNScrollStateValue, targetIndex = -1) {
+    const controllerId = await this.ensureControllerId();
+    await NativeTxplayer.shortControllerSetScrollState(
+      controllerId,
+      state,
+      targetIndex
+    );
+  }
+
   async bindVodPlayer(viewHandle: RNPlayerViewHandle, index: number) {
     const controllerId = await this.ensureControllerId();
     const viewTag = resolveViewTag(viewHandle);
+    // Subscribe before binding so the first playback events are not skipped.
+    const vodController = getOrCreateVodController(viewTag);
     await NativeTxplayer.shortControllerBindVideoView(
       controllerId,
       viewTag,
       index
     );
-    return getOrCreateVodController(viewTag);
+    return vodController;
+  }
+
+  /**
+   * Binds the current view and pre-binds its neighbours in one round trip. The
+   * native side binds `current` first, then pre-binds `prebind` entries nearest
+   * first, scroll direction first, in a single UI-thread pass. Returns the
+   * current view's `TUIVodPlayerController` and results in `entries` order.
+   */
+  async bindWindow(entries: RNBindEntry[]): Promise<{
+    controller?: TUIVodPlayerController;
+    results: boolean[];
+  }> {
+    const controllerId = await this.ensureControllerId();
+    const nativeEntries = serializeBindEntries(entries);
+    const current = nativeEntries.find((entry) => entry.role === 0);
+    // Subscribe before binding so the first playback events are not skipped.
+    const controller = current
+      ? getOrCreateVodController(current.viewTag)
+      : undefined;
+    const results = await NativeTxplayer.shortControllerBindWindow(
+      controllerId,
+      nativeEntries
+    );
+    return { controller, results };
   }
 
   async preCreateVodPlayer(viewHandle: RNPlayerViewHandle, index: number) {
@@ -78,6 +309,15 @@ export class RNPlayerShortController {
     );
   }
 
+  /** Event code filter for every view bound by this controller. */
+  async setEventFilter(filter: RNEventFilter) {
+    const controllerId = await this.ensureControllerId();
+    await NativeTxplayer.shortControllerSetEventFilter(
+      controllerId,
+      serializeEventFilter(filter)
+    );
+  }
+
   async startCurrent() {
     const controllerId = await this.ensureControllerId();
     return NativeTxplayer.shortControllerStartCurrent(controllerId);
@@ -97,14 +337,41 @@ export class RNPlayerShortController {
     );
   }
 
+  /**
+   * When enabled, the native side tunes `preloadCount`/`preDownloadSize` from
+   * measured bandwidth: lower on weak networks, higher on good ones, with
+   * hysteresis. Disabling restores the values from `setVodStrategy`.
+   */
+  async setAdaptiveStrategy(enabled: boolean) {
+    const controllerId = await this.ensureControllerId();
+    await NativeTxplayer.shortControllerSetAdaptiveStrategy(
+      controllerId,
+      enabled
+    );
+  }
+
+  /**
+   * Marks the controller as foreground or not, e.g. on tab switches. Inactive
+   * controllers pause playback and preloading but keep their players; beyond
+   * the `setMaxWarmControllers` limit they are parked (players released) and
+   * rebuilt when activated again.
+   */
+  async setActive(active: boolean) {
+    const controllerId = await this.ensureControllerId();
+    await NativeTxplayer.shortControllerSetActive(controllerId, active);
+  }
+
   async release() {
     if (this.released) {
       return;
     }
     this.released = true;
+    this.modelProvider = undefined;
+    this.modelsFailedListener = undefined;
     const controllerId =
       this.controllerId ?? (await this.initPromise.catch(() => undefined));
     if (controllerId != null) {
+      liveControllers.delete(controllerId);
       await NativeTxplayer.shortControllerRelease(controllerId);
     }
   }
@@ -6,7 +6,17 @@ import { PLAYER_VIEW_MANAGER } from './types';
 
 export type ResizeMode = 'contain' | 'cover';
 
+/**
+ * `surface` uses a SurfaceView, composed outside the app's GPU pass, with
+ * lower power and memory use; suited to full-screen playback without
+ * transforms. `texture` (default) uses a TextureView and supports
+ * transparency, animation and last-frame snapshots. A change applies at once
+ * when no player is bound, otherwise after it unbinds.
+ */
+export type RenderViewType = 'texture' | 'surface';
+
 type NativeProps = ViewProps & {
+  renderViewType?: RenderViewType;
   resizeMode?: ResizeMode;
   videoWidth?: number;
   videoHeight?: number;
@@ -1,25 +1,34 @@
-import type { EmitterSubscription } from 'react-native';
-
 import NativeTxplayer from './NativeTxplayer';
 import { TxplayerEventEmitter } from './events';
 import {
   EVENT_CONTROLLER_BIND,
   EVENT_CONTROLLER_UNBIND,
   EVENT_PLAY_EVENT,
+  EVENT_PLAY_PROGRESS,
   EVENT_VIEW_DISPOSED,
   EVENT_SUBTITLE_TRACKS,
+  deserializeVodCommandResult,
+  serializeEventFilter,
+  serializeProgressConfig,
   serializeVideoSource,
+  serializeVodCommand,
   TUIPlayerState,
   TXVodPlayEvent,
   TUIResolutionType,
+  TxplayerEventMask,
 } from './types';
 import type {
+  RNEventFilter,
   RNVideoSource,
+  RNPlayProgress,
+  RNProgressConfig,
   RNSubtitleTrackInfo,
   RNVodControlListener,
   RNVodEvent,
   RNPlayerBitrateItem,
   RNTUIResolutionType,
+  RNVodCommand,
+  RNVodCommandResult,
 } from './types';
 
 type PlayEventPayload = {
@@ -31,12 +40,17 @@ type ControllerEventPayload = {
   viewTag: number;
 };
 
+type ProgressEventPayload = RNPlayProgress & {
+  viewTag: number;
+};
+
 type SubtitleEventPayload = {
   viewTag: number;
   tracks?: RNSubtitleTrackInfo[];
 };
 
 const controllerCache = new Map<number, TUIVodPlayerController>();
+const eventRoutes = new Map<number, Set<TUIVodPlayerController>>();
 
 function hasViewTag(payload: unknown): payload is { viewTag: number } {
   return (
@@ -71,27 +85,83 @@ function toSubtitleEventPayload(payload: unknown): SubtitleEventPayload | null {
   return { viewTag: payload.viewTag, tracks };
 }
 
+function addEventRoute(viewTag: number, controller: TUIVodPlayerController) {
+  let targets = eventRoutes.get(viewTag);
+  if (!targets) {
+    targets = new Set();
+    eventRoutes.set(viewTag, targets);
+    NativeTxplayer.setViewEventMask(viewTag, TxplayerEventMask.ALL).catch(
+      () => {}
+    );
+  }
+  targets.add(controller);
+}
+
+function removeEventRoute(
+  viewTag: number,
+  controller: TUIVodPlayerController
+) {
+  const targets = eventRoutes.get(viewTag);
+  if (!targets || !targets.delete(controller) || targets.size > 0) {
+    return;
+  }
+  eventRoutes.delete(viewTag);
+  NativeTxplayer.setViewEventMask(viewTag, TxplayerEventMask.NONE).catch(
+    () => {}
+  );
+}
+
+// One emitter subscription per event type; payloads are routed to the
+// controllers of their viewTag instead of being fanned out to all of them.
+[
+  EVENT_PLAY_EVENT,
+  EVENT_CONTROLLER_BIND,
+  EVENT_CONTROLLER_UNBIND,
+  EVENT_SUBTITLE_TRACKS,
+  EVENT_PLAY_PROGRESS,
+].forEach((eventName) => {
+  TxplayerEventEmitter.addListener(eventName, (payload: unknown) => {
+    if (!hasViewTag(payload)) {
+      return;
+    }
+    eventRoutes
+      .get(payload.viewTag)
+      ?.forEach((controller) =>
+        controller.handleNativeEvent(eventName, payload)
+      );
+  });
+});
+
 export class TUIVodPlayerController {
-  private subscriptions: EmitterSubscription[] = [];
   private listeners: Set<RNVodControlListener> = new Set();
+  private disposed = false;
   playerState: TUIPlayerState = TUIPlayerState.INIT;
 
   constructor(private readonly viewTag: number) {
-    this.subscriptions = [
-      TxplayerEventEmitter.addListener(EVENT_PLAY_EVENT, this.handlePlayEvent),
-      TxplayerEventEmitter.addListener(
-        EVENT_CONTROLLER_BIND,
-        this.handleBindEvent
-      ),
-      TxplayerEventEmitter.addListener(
-        EVENT_CONTROLLER_UNBIND,
-        this.handleUnBindEvent
-      ),
-      TxplayerEventEmitter.addListener(
-        EVENT_SUBTITLE_TRACKS,
-        this.handleSubtitleTracks
-      ),
-    ];
+    addEventRoute(viewTag, this);
+  }
+
+  /** @internal Called by the per-view event router. */
+  handleNativeEvent(eventName: string, payload: unknown) {
+    switch (eventName) {
+      case EVENT_PLAY_EVENT:
+        this.handlePlayEvent(payload);
+        break;
+      case EVENT_CONTROLLER_BIND:
+        this.handleBindEvent(payload);
+        break;
+      case EVENT_CONTROLLER_UNBIND:
+        this.handleUnBindEvent(payload);
+        break;
+      case EVENT_SUBTITLE_TRACKS:
+        this.handleSubtitleTracks(payload);
+        break;
+      case EVENT_PLAY_PROGRESS:
+        this.handleProgress(payload as ProgressEventPayload);
+        break;
+      default:
+        break;
+    }
   }
 
   private handlePlayEvent = (rawPayload: unknown) => {
@@ -186,6 +256,15 @@ export class TUIVodPlayerController {
     );
   };
 
+  private handleProgress = (payload: ProgressEventPayload) => {
+    const progress: RNPlayProgress = {
+      position: Number(payload.position) || 0,
+      duration: Number(payload.duration) || 0,
+      buffered: Number(payload.buffered) || 0,
+    };
+    this.listeners.forEach((listener) => listener.onPlayProgress?.(progress));
+  };
+
   addListener(listener: RNVodControlListener) {
     this.listeners.add(listener);
   }
@@ -258,6 +337,38 @@ export class TUIVodPlayerController {
     await NativeTxplayer.vodPlayerSelectSubtitle(this.viewTag, trackIndex);
   }
 
+  /**
+   * Streams `onPlayProgress` to listeners while playing, instead of polling
+   * `getCurrentPlayTime()`. Pass `intervalMs: 0` to stop.
+   */
+  async setProgressConfig(config: RNProgressConfig) {
+    await NativeTxplayer.vodPlayerSetProgressConfig(
+      this.viewTag,
+      serializeProgressConfig(config)
+    );
+  }
+
+  /**
+   * Applies `commands` in order in one native call, e.g. mute + rate + seek +
+   * resume when starting a video. A failing command is reported in its result
+   * and does not stop the following ones.
+   */
+  async execute(commands: RNVodCommand[]): Promise<RNVodCommandResult[]> {
+    const results = await NativeTxplayer.vodPlayerExecute(
+      this.viewTag,
+      commands.map(serializeVodCommand)
+    );
+    return results.map(deserializeVodCommandResult);
+  }
+
+  /** Overrides the short controller's filter for this view. */
+  async setEventFilter(filter: RNEventFilter) {
+    await NativeTxplayer.vodPlayerSetEventFilter(
+      this.viewTag,
+      serializeEventFilter(filter)
+    );
+  }
+
   getDuration() {
     return NativeTxplayer.vodPlayerGetDuration(this.viewTag);
   }
@@ -270,6 +381,24 @@ export class TUIVodPlayerController {
     return NativeTxplayer.vodPlayerIsPlaying(this.viewTag);
   }
 
+  /**
+   * Synchronous variants for per-frame callers. They read a snapshot the
+   * native side publishes from player callbacks (the position is extrapolated
+   * between progress updates), so they may lag the player by a few ms. iOS
+   * reads the player directly.
+   */
+  getCurrentPlayTimeSync(): number {
+    return NativeTxplayer.vodPlayerGetCurrentPlayTimeSync(this.viewTag);
+  }
+
+  getDurationSync(): number {
+    return NativeTxplayer.vodPlayerGetDurationSync(this.viewTag);
+  }
+
+  isPlayingSync(): boolean {
+    return NativeTxplayer.vodPlayerIsPlayingSync(this.viewTag);
+  }
+
   async release() {
     await NativeTxplayer.vodPlayerRelease(this.viewTag);
     this.dispose();
@@ -278,8 +407,10 @@ export class TUIVodPlayerController {
 
   dispose() {
     this.listeners.clear();
-    this.subscriptions.forEach((sub) => sub.remove());
-    this.subscriptions = [];
+    if (!this.disposed) {
+      this.disposed = true;
+      removeEventRoute(this.viewTag, this);
+    }
   }
 }
 
@@ -1,7 +1,27 @@
 import { NativeEventEmitter } from 'react-native';
 
 import NativeTxplayer from './NativeTxplayer';
+import { EVENT_BATCH } from './types';
+
+type BatchedEvent = {
+  name: string;
+  params: unknown;
+};
 
 export const TxplayerEventEmitter = new NativeEventEmitter(
   NativeTxplayer as any
 );
+
+// Batched native events are replayed in order so listeners see the same
+// stream as in unbatched mode.
+TxplayerEventEmitter.addListener(EVENT_BATCH, (payload: unknown) => {
+  const events = (payload as { events?: BatchedEvent[] } | null)?.events;
+  if (!Array.isArray(events)) {
+    return;
+  }
+  events.forEach((item) => {
+    if (item && typeof item.name === 'string') {
+      TxplayerEventEmitter.emit(item.name, item.params);
+    }
+  });
+});
@@ -1,5 +1,18 @@
 export { RNPlayerView } from './RNPlayerView';
+export type { RenderViewType } from './RNPlayerView';
 export { RNPlayerShortController } from './RNPlayerShortController';
 export { TUIVodPlayerController } from './TUIVodPlayerController';
-export { setTUIPlayerConfig, setMonetAppInfo } from './RNPlayerKit';
+export {
+  setTUIPlayerConfig,
+  setMonetAppInfo,
+  setEventBatchConfig,
+  getPerformanceStats,
+  setViewEventMask,
+  setEventPayloadMode,
+  setMaxWarmControllers,
+  setMemoryBudget,
+  setSnapshotCacheConfig,
+  setViewPoolSize,
+  setFrameMonitorEnabled,
+} from './RNPlayerKit';
 export * from './types';
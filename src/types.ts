@@ -2,8 +2,14 @@ import type { Component, RefObject } from 'react';
 import { findNodeHandle } from 'react-native';
 
 import type {
+  NativeBindEntry,
+  NativeEventBatchConfig,
+  NativeEventFilter,
   NativePlayerConfig,
+  NativeProgressConfig,
   NativeSubtitleSource,
+  NativeVodCommand,
+  NativeVodCommandResult,
   NativeVodSource,
   NativeVodStrategy,
 } from './NativeTxplayer';
@@ -14,6 +20,26 @@ export type {
   NativeVodSource,
   NativeVodStrategy,
   NativeBitrateItem,
+  NativeBindEntry,
+  NativeEventBatchConfig,
+  NativeEventDispatcherStats,
+  NativeEventPayloadStats,
+  NativeEventSubscriptionStats,
+  NativeModelStats,
+  NativeSourceBatchStats,
+  NativePreRenderStats,
+  NativeParkingStats,
+  NativeMemoryStats,
+  NativeAdaptiveStrategyStats,
+  NativeCoverCacheStats,
+  NativeSnapshotCacheStats,
+  NativeViewPoolStats,
+  NativeFrameTypeStats,
+  NativeFrameStats,
+  NativeVideoSizeCacheStats,
+  NativeViewRegistryStats,
+  NativePlayerCommandStats,
+  NativePerformanceStats,
 } from './NativeTxplayer';
 
 export const PLAYER_VIEW_MANAGER = 'TUIShortVideoItemView';
@@ -23,6 +49,10 @@ export const EVENT_CONTROLLER_BIND = 'txplayer.onControllerBind';
 export const EVENT_CONTROLLER_UNBIND = 'txplayer.onControllerUnbind';
 export const EVENT_VIEW_DISPOSED = 'txplayer.onViewDisposed';
 export const EVENT_SUBTITLE_TRACKS = 'txplayer.onSubtitleTracks';
+export const EVENT_PLAY_PROGRESS = 'txplayer.onPlayProgress';
+export const EVENT_MODELS_REQUESTED = 'txplayer.onModelsRequested';
+export const EVENT_MODELS_FAILED = 'txplayer.onModelsFailed';
+export const EVENT_BATCH = 'txplayer.onEventBatch';
 
 export interface RNPlayerConfig {
   licenseUrl: string;
@@ -30,6 +60,102 @@ export interface RNPlayerConfig {
   enableLog?: boolean;
 }
 
+/**
+ * Bits for `setViewEventMask`. Every view emits by default; once the
+ * `ANY_VIEW_TAG` mask is narrowed, only subscribed events are emitted.
+ */
+export const TxplayerEventMask = {
+  NONE: 0,
+  PLAY_EVENT: 1,
+  CONTROLLER_BIND: 1 << 1,
+  CONTROLLER_UNBIND: 1 << 2,
+  SUBTITLE_TRACKS: 1 << 3,
+  PLAY_PROGRESS: 1 << 4,
+  ALL: (1 << 5) - 1,
+} as const;
+
+/** Native play-event payload construction, see `setEventPayloadMode`. */
+export const TxplayerEventPayloadMode = {
+  /** Legacy HashMap + native copy. */
+  MAP: 0,
+  /** Typed writes of every Bundle entry (default). */
+  DIRECT: 1,
+  /** Typed writes of the documented `EVT_*` keys only. */
+  KNOWN_KEYS: 2,
+} as const;
+
+/** List scroll state, mirrors `TUIConstants.TUIScrollState`. */
+export const RNScrollState = {
+  IDLE: 1,
+  DRAGGING: 2,
+  SETTLING: 3,
+} as const;
+
+export type RNScrollStateValue =
+  (typeof RNScrollState)[keyof typeof RNScrollState];
+
+/**
+ * Pass to `setViewEventMask` to set the mask of every view (`ALL` by
+ * default). Setting it to `NONE` opts in to per-view subscriptions.
+ */
+export const ANY_VIEW_TAG = -1;
+
+/**
+ * Event code filter applied natively before payloads are built.
+ * `allow` forwards only `codes`, `deny` drops them, `none` clears the filter.
+ */
+export interface RNEventFilter {
+  mode: 'none' | 'allow' | 'deny';
+  codes?: number[];
+}
+
+export interface RNProgressConfig {
+  /** Minimum time between progress updates; 0 stops the stream. */
+  intervalMs: number;
+  /** Updates whose position moved less than this are dropped. */
+  minDeltaMs?: number;
+}
+
+/** Times are in seconds, like `getCurrentPlayTime()`. */
+export interface RNPlayProgress {
+  position: number;
+  duration: number;
+  buffered: number;
+}
+
+/** `current` binds and plays the view, `prebind` pre-renders a neighbour. */
+export type RNBindRole = 'current' | 'prebind';
+
+export interface RNBindEntry {
+  view: RNPlayerViewHandle;
+  index: number;
+  role: RNBindRole;
+}
+
+/**
+ * Returns full models for `[start, end]` (inclusive) when a windowed
+ * controller needs them again.
+ */
+/** A streamed load failed after it had already resolved. */
+export interface RNModelsFailure {
+  /** Models of the load that made it into the list before the failure. */
+  loaded: number;
+  message: string;
+}
+
+export type RNModelsFailedListener = (failure: RNModelsFailure) => void;
+
+export type RNModelProvider = (
+  start: number,
+  end: number
+) => RNVideoSource[] | Promise<RNVideoSource[]>;
+
+export interface RNEventBatchConfig {
+  enabled: boolean;
+  /** 0 flushes once per frame; a positive value flushes after that many ms. */
+  flushIntervalMs?: number;
+}
+
 export interface RNSubtitleSource {
   url: string;
   mimeType: string;
@@ -85,6 +211,7 @@ export interface RNVodControlListener {
   onPlayBegin?: (event: RNVodEvent) => void;
   onPlayEnd?: (event: RNVodEvent) => void;
   onSubtitleTracksUpdate?: (tracks: RNSubtitleTrackInfo[]) => void;
+  onPlayProgress?: (progress: RNPlayProgress) => void;
 }
 
 export enum TUIPlayerState {
@@ -117,6 +244,34 @@ export interface RNPlayerBitrateItem {
   bitrate: number;
 }
 
+/** One step of `TUIVodPlayerController.execute`, mirroring the single calls. */
+export type RNVodCommand =
+  | { type: 'startPlay'; source: RNVideoSource }
+  | { type: 'pause' }
+  | { type: 'resume' }
+  | { type: 'seekTo'; time: number }
+  | { type: 'setRate'; rate: number }
+  | { type: 'setMute'; mute: boolean }
+  | { type: 'setMirror'; mirror: boolean }
+  | { type: 'setRenderMode'; renderMode: number }
+  | { type: 'setStringOption'; value: string; key: unknown }
+  | { type: 'selectSubtitleTrack'; trackIndex: number }
+  | {
+      type: 'switchResolution';
+      resolution: number;
+      switchType?: RNTUIResolutionType;
+    }
+  | { type: 'getDuration' }
+  | { type: 'getCurrentPlayTime' }
+  | { type: 'isPlaying' };
+
+export interface RNVodCommandResult {
+  ok: boolean;
+  /** Set by the getter commands. */
+  value?: number | boolean;
+  error?: string;
+}
+
 export const TXVodPlayEvent = {
   PLAY_EVT_ERROR_INVALID_LICENSE: -5,
   PLAY_EVT_CONNECT_SUCC: 2001,
@@ -212,6 +367,45 @@ export function serializePlayerConfig(
   };
 }
 
+const EVENT_FILTER_MODES = { none: 0, allow: 1, deny: 2 } as const;
+
+export function serializeBindEntries(
+  entries: RNBindEntry[]
+): NativeBindEntry[] {
+  return entries.map((entry) => ({
+    viewTag: resolveViewTag(entry.view),
+    index: entry.index,
+    role: entry.role === 'current' ? 0 : 1,
+  }));
+}
+
+export function serializeEventFilter(
+  filter: RNEventFilter
+): NativeEventFilter {
+  return {
+    mode: EVENT_FILTER_MODES[filter.mode] ?? 0,
+    codes: filter.codes ?? [],
+  };
+}
+
+export function serializeProgressConfig(
+  config: RNProgressConfig
+): NativeProgressConfig {
+  return {
+    intervalMs: Math.max(0, Math.round(config.intervalMs)),
+    minDeltaMs: Math.max(0, Math.round(config.minDeltaMs ?? 0)),
+  };
+}
+
+export function serializeEventBatchConfig(
+  config: RNEventBatchConfig
+): NativeEventBatchConfig {
+  return {
+    enabled: config.enabled,
+    flushIntervalMs: Math.max(0, Math.round(config.flushIntervalMs ?? 0)),
+  };
+}
+
 export function serializeVideoSource(source: RNVideoSource): NativeVodSource {
   return {
     videoURL: source.videoURL,
@@ -250,6 +444,47 @@ export function serializeVideoSources(
   return sources.map(serializeVideoSource);
 }
 
+export function serializeVodCommand(
+  command: RNVodCommand
+): NativeVodCommand {
+  switch (command.type) {
+    case 'startPlay':
+      return { op: 'startPlay', source: serializeVideoSource(command.source) };
+    case 'seekTo':
+      return { op: 'seekTo', value: command.time };
+    case 'setRate':
+      return { op: 'setRate', value: command.rate };
+    case 'setMute':
+      return { op: 'setMute', flag: command.mute };
+    case 'setMirror':
+      return { op: 'setMirror', flag: command.mirror };
+    case 'setRenderMode':
+      return { op: 'setRenderMode', value: command.renderMode };
+    case 'setStringOption':
+      return { op: 'setStringOption', text: command.value, key: command.key };
+    case 'selectSubtitleTrack':
+      return { op: 'selectSubtitle', value: command.trackIndex };
+    case 'switchResolution':
+      return {
+        op: 'switchResolution',
+        value: command.resolution,
+        switchType: command.switchType ?? TUIResolutionType.CURRENT,
+      };
+    default:
+      return { op: command.type };
+  }
+}
+
+export function deserializeVodCommandResult(
+  result: NativeVodCommandResult
+): RNVodCommandResult {
+  return {
+    ok: result.ok,
+    value: result.value ?? result.flag,
+    error: result.error,
+  };
+}
+
 export function serializeVodStrategy(
   strategy?: RNPlayerVodStrategy
 ): NativeVodStrategy {